@@ -1,27 +1,143 @@
 package month.communitybackend.config;
 
 
-import lombok.RequiredArgsConstructor;
-import month.communitybackend.dto.CandleDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import month.communitybackend.domain.Markets;
+import month.communitybackend.dto.CandleSeries;
+import month.communitybackend.service.CandleBackfillService;
 import month.communitybackend.service.CandleService;
+import month.communitybackend.service.MarketStreamService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class CandleScheduler {
     private final CandleService candleService;
-    private static final List<String> MARKETS = List.of("KRW-BTC", "KRW-ETH", "KRW-XRP", "KRW-SOL", "KRW-SAND", "KRW-DOGE", "KRW-TRUMP", "KRW-STRIKE");
+    private final CandleBackfillService backfillService;
+    private final MarketStreamService marketStream;
+    private static final List<String> MARKETS = Markets.SUPPORTED;
+    // 처음 수집하는 마켓에서 가져올 1분봉 개수
+    private static final int INITIAL_COUNT = 100;
 
-    /** 1분마다 각 마켓의 1분봉 100개를 가져와 저장 */
+    // 마켓별로 마지막으로 저장한 봉의 openTime (high-water mark)
+    private final Map<String, Long> highWater = new ConcurrentHashMap<>();
+    // 마켓별 업비트 호출은 가상 스레드에서, 동시 호출 수는 세마포어로 제한
+    private final ExecutorService fetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore fetchPermits;
+    private final boolean backfillEnabled;
+
+    public CandleScheduler(
+            CandleService candleService,
+            CandleBackfillService backfillService,
+            MarketStreamService marketStream,
+            @Value("${candle.fetch.max-concurrency:4}") int maxConcurrency,
+            @Value("${candle.backfill.enabled:false}") boolean backfillEnabled
+    ) {
+        this.candleService = candleService;
+        this.backfillService = backfillService;
+        this.marketStream = marketStream;
+        this.fetchPermits = new Semaphore(maxConcurrency);
+        this.backfillEnabled = backfillEnabled;
+    }
+
+    /** 시작 시 DB 에 저장된 최근 캔들로 마켓별 캐시를 채움 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmCache() {
+        for (String m : MARKETS) {
+            candleService.warmCache(m);
+        }
+    }
+
+    /** 백필이 켜져 있으면 시작 후 백그라운드에서 체크포인트부터 과거 캔들을 채움 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        if (backfillEnabled) {
+            Thread.ofVirtual().name("candle-backfill").start(() -> backfillService.runAll(MARKETS));
+        }
+    }
+
+    /**
+     * 1분마다 모든 마켓의 새 1분봉을 동시에 가져와 한 번에 저장, 소요 시간은 가장 느린 마켓 하나로 제한된다.
+     * 시간 제한은 future 가 아니라 UpbitClient 의 연결/응답 타임아웃으로 건다.
+     * future 에 걸면 세마포어 대기 시간까지 포함되고, 시간이 지나도 작업이 취소되지 않아 permit 을 쥔 채 다음 주기까지 돈다.
+     */
     @Scheduled(fixedRate = 60_000)
     public void updateAllMarkets() {
+        Map<String, CompletableFuture<CandleSeries>> futures = new LinkedHashMap<>();
         for (String m : MARKETS) {
-            List<CandleDto> dto = candleService.fetchFromUpbit(m, 1, 100);
-            candleService.saveAll(dto);
+            futures.put(m, CompletableFuture.supplyAsync(() -> fetchWithPermit(m), fetchExecutor));
+        }
+
+        List<CandleSeries> fetched = new ArrayList<>(futures.size());
+        futures.forEach((market, future) -> {
+            try {
+                CandleSeries series = future.join();
+                if (!series.isEmpty()) {
+                    fetched.add(series);
+                }
+            } catch (CompletionException e) {
+                // 한 마켓의 실패/지연은 다음 주기에 high-water 부터 다시 따라잡는다
+                log.warn("캔들 수집 실패: market={}, cause={}", market, e.getCause().toString());
+            }
+        });
+        if (fetched.isEmpty()) {
+            return;
+        }
+
+        candleService.saveAll(fetched);
+        // 저장된 새 봉을 스트림 구독자에게 한 번씩만 직렬화해 전송
+        marketStream.publishCandles(fetched);
+        for (CandleSeries s : fetched) {
+            highWater.merge(s.market(), s.openTime(0), Math::max);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
+
+    private CandleSeries fetchWithPermit(String market) {
+        try {
+            fetchPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        try {
+            return fetchNew(market);
+        } finally {
+            fetchPermits.release();
+        }
+    }
+
+    private CandleSeries fetchNew(String market) {
+        Long since = highWater.get(market);
+        if (since == null) {
+            OptionalLong stored = candleService.findLatestOpenTime(market);
+            if (stored.isEmpty()) {
+                return candleService.fetchFromUpbit(market, 1, INITIAL_COUNT);
+            }
+            since = stored.getAsLong();
         }
+        return candleService.fetchSince(market, 1, since);
     }
-}
\ No newline at end of file
+}
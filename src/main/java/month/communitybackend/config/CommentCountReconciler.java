@@ -0,0 +1,33 @@
+package month.communitybackend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import month.communitybackend.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+    private final PostRepository postRepo;
+
+    // 한 번의 UPDATE 가 훑는 게시글 id 구간 크기, 잠금 범위를 작게 유지
+    @Value("${post.comment-count.reconcile-chunk:1000}")
+    private int chunk;
+
+    /** 주기적으로 posts.comment_count 를 실제 댓글 수와 비교해 어긋난 게시글만 바로잡음 */
+    @Scheduled(initialDelayString = "${post.comment-count.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${post.comment-count.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        long maxId = postRepo.findMaxId().orElse(0L);
+        int fixed = 0;
+        for (long from = 0; from < maxId; from += chunk) {
+            fixed += postRepo.reconcileCommentCounts(from, Math.min(from + chunk, maxId));
+        }
+        if (fixed > 0) {
+            log.warn("게시글 댓글 수 불일치 보정: {}건", fixed);
+        }
+    }
+}
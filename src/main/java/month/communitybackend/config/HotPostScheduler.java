@@ -0,0 +1,36 @@
+package month.communitybackend.config;
+
+import month.communitybackend.service.HotPostService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class HotPostScheduler {
+    private final HotPostService hotPosts;
+    private final Duration seedHorizon;
+
+    public HotPostScheduler(
+            HotPostService hotPosts,
+            @Value("${post.hot.seed-hours:48}") long seedHours
+    ) {
+        this.hotPosts = hotPosts;
+        this.seedHorizon = Duration.ofHours(seedHours);
+    }
+
+    /** 시작 시 최근 게시글의 댓글 수로 마켓별 인기글 순위를 복원 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        hotPosts.seed(seedHorizon);
+    }
+
+    /** 인기글 조회가 읽는 상위 목록 스냅샷을 갱신 */
+    @Scheduled(fixedDelayString = "${post.hot.snapshot-interval-ms:5000}")
+    public void snapshot() {
+        hotPosts.snapshot();
+    }
+}
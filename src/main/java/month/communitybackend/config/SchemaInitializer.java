@@ -0,0 +1,164 @@
+package month.communitybackend.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import month.communitybackend.domain.Post;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// spring.jpa.hibernate.ddl-auto 를 쓰지 않으므로 엔티티에 추가된 테이블/컬럼/인덱스를 시작 시 직접 만든다 (이미 있으면 건너뜀)
+public class SchemaInitializer {
+    // 한 번에 채우는 행 수, 긴 잠금을 피하기 위해 나눠서 실행
+    private static final int BATCH = 1000;
+    private static final String FILL_EXCERPT_SQL = "UPDATE posts"
+            + " SET excerpt = LEFT(REGEXP_REPLACE(TRIM(content), '[[:space:]]+', ' '), " + Post.EXCERPT_LENGTH + ")"
+            + " WHERE excerpt IS NULL AND content IS NOT NULL LIMIT " + BATCH;
+
+    // 검색용 FULLTEXT 인덱스, 한국어는 띄어쓰기로 단어가 나뉘지 않아 ngram 파서를 사용한다
+    private static final Map<String, String> FULLTEXT_INDEXES = Map.of(
+            "ft_posts_title_content", "ALTER TABLE posts ADD FULLTEXT INDEX ft_posts_title_content (title, content) WITH PARSER ngram",
+            "ft_comments_content", "ALTER TABLE comments ADD FULLTEXT INDEX ft_comments_content (content) WITH PARSER ngram");
+    private static final String INDEX_EXISTS_SQL = "SELECT COUNT(*) FROM information_schema.statistics"
+            + " WHERE table_schema = DATABASE() AND index_name = ?";
+
+    private static final String COLUMN_EXISTS_SQL = "SELECT COUNT(*) FROM information_schema.columns"
+            + " WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?";
+
+    // 댓글 수 컬럼을 처음 추가할 때 id 구간별로 실제 댓글 수를 채운다
+    private static final String FILL_COMMENT_COUNT_SQL = "UPDATE posts p"
+            + " SET p.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id)"
+            + " WHERE p.id > ? AND p.id <= ?";
+
+    // 캔들 백필 체크포인트 (CandleBackfillCheckpoint)
+    private static final String CREATE_CHECKPOINTS_SQL = "CREATE TABLE IF NOT EXISTS candle_backfill_checkpoints ("
+            + " market VARCHAR(50) NOT NULL,"
+            + " oldest_open_time BIGINT NOT NULL,"
+            + " target_open_time BIGINT NOT NULL,"
+            + " candles_written BIGINT NOT NULL,"
+            + " completed BIT(1) NOT NULL,"
+            + " updated_at DATETIME(6),"
+            + " PRIMARY KEY (market))";
+
+    // 예전 버전은 업비트 timestamp(봉 안의 마지막 체결 시각)를 1분봉 키로 저장했다, 이런 행을 봉 시작 시각 키로 옮긴다
+    private static final String LEGACY_CANDLE_EXISTS_SQL =
+            "SELECT EXISTS(SELECT 1 FROM candles WHERE MOD(open_time, 60000) <> 0)";
+    // 1) 같은 분의 정렬된 키 행이 이미 있으면 예전 키 행은 버린다
+    // 2) 같은 분에 예전 키 행이 여러 개면 가장 늦은 시각(마지막으로 받은 값)만 남긴다
+    // 3) 남은 예전 키 행을 분 시작 시각으로 내린다
+    private static final String[] ALIGN_LEGACY_CANDLES_SQL = {
+            "DELETE l FROM candles l JOIN candles a"
+                    + " ON a.market = l.market AND a.open_time = l.open_time - MOD(l.open_time, 60000)"
+                    + " WHERE MOD(l.open_time, 60000) <> 0",
+            "DELETE l FROM candles l JOIN candles n"
+                    + " ON n.market = l.market AND n.open_time > l.open_time"
+                    + " AND n.open_time < l.open_time - MOD(l.open_time, 60000) + 60000"
+                    + " WHERE MOD(l.open_time, 60000) <> 0",
+            "UPDATE candles SET open_time = open_time - MOD(open_time, 60000) WHERE MOD(open_time, 60000) <> 0",
+            "UPDATE candle_backfill_checkpoints SET oldest_open_time = oldest_open_time - MOD(oldest_open_time, 60000)"
+    };
+
+    // keyset 페이지용 B-tree 인덱스 (Post/Comment 의 @Index 와 같은 정의)
+    private static final Map<String, String> KEYSET_INDEXES = Map.of(
+            "idx_posts_created_id", "CREATE INDEX idx_posts_created_id ON posts (created_at, id)",
+            "idx_posts_market_created_id", "CREATE INDEX idx_posts_market_created_id ON posts (market, created_at, id)",
+            "idx_posts_author_created_id", "CREATE INDEX idx_posts_author_created_id ON posts (author_id, created_at, id)",
+            "idx_comments_post_created_id", "CREATE INDEX idx_comments_post_created_id ON comments (post_id, created_at, id)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 스키마 변경, 스케줄러와 ApplicationReadyEvent 리스너가 DB 를 쓰기 전(빈 초기화 시점)에 실행 */
+    @PostConstruct
+    public void migrate() {
+        jdbcTemplate.execute(CREATE_CHECKPOINTS_SQL);
+        // 캔들 캐시, 집계, 백필이 캔들을 읽기 전에 키를 맞춘다
+        alignLegacyCandleKeys();
+        // 목록용 본문 요약, 기존 글은 fillMissingExcerpts 가 채운다
+        addColumnIfMissing("posts", "excerpt",
+                "ALTER TABLE posts ADD COLUMN excerpt VARCHAR(" + Post.EXCERPT_LENGTH + ") NULL");
+        // 댓글 수, 요청을 받기 전에 채워 두어야 증감 쿼리가 올바른 값에서 시작한다
+        if (addColumnIfMissing("posts", "comment_count",
+                "ALTER TABLE posts ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0")) {
+            fillCommentCounts();
+        }
+        // 조회수, PostViewCounter 가 주기적으로 더한다
+        addColumnIfMissing("posts", "view_count",
+                "ALTER TABLE posts ADD COLUMN view_count BIGINT NOT NULL DEFAULT 0");
+        // 탈퇴 처리 중 표시 (AuthorDetachJob)
+        addColumnIfMissing("users", "deleted",
+                "ALTER TABLE users ADD COLUMN deleted BOOLEAN NOT NULL DEFAULT FALSE");
+        KEYSET_INDEXES.forEach(this::createIndexIfMissing);
+    }
+
+    /** 검색 인덱스가 없으면 생성, 이후 글/댓글 작성/수정/삭제는 InnoDB 가 커밋 시점에 인덱스에 반영한다 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createFullTextIndexes() {
+        FULLTEXT_INDEXES.forEach(this::createIndexIfMissing);
+    }
+
+    /** excerpt 컬럼이 추가되기 전에 작성된 게시글의 요약을 채움, 새 글은 저장 시 Post 에서 채운다 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingExcerpts() {
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(FILL_EXCERPT_SQL);
+            total += updated;
+        } while (updated == BATCH);
+        if (total > 0) {
+            log.info("게시글 요약 채움: {}건", total);
+        }
+    }
+
+    private void fillCommentCounts() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM posts", Long.class);
+        for (long from = 0; maxId != null && from < maxId; from += BATCH) {
+            jdbcTemplate.update(FILL_COMMENT_COUNT_SQL, from, Math.min(from + BATCH, maxId));
+        }
+        log.info("게시글 댓글 수 채움: maxId={}", maxId);
+    }
+
+    private void alignLegacyCandleKeys() {
+        Boolean legacy = jdbcTemplate.queryForObject(LEGACY_CANDLE_EXISTS_SQL, Boolean.class);
+        if (!Boolean.TRUE.equals(legacy)) {
+            return;
+        }
+        int[] counts = new int[ALIGN_LEGACY_CANDLES_SQL.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = jdbcTemplate.update(ALIGN_LEGACY_CANDLES_SQL[i]);
+        }
+        log.info("예전 키 1분봉 정리: 중복 삭제={}건, 같은 분 이전 값 삭제={}건, 키 변경={}건",
+                counts[0], counts[1], counts[2]);
+    }
+
+    // 컬럼이 없어 추가했으면 true
+    private boolean addColumnIfMissing(String table, String column, String ddl) {
+        Integer exists = jdbcTemplate.queryForObject(COLUMN_EXISTS_SQL, Integer.class, table, column);
+        if (exists != null && exists > 0) {
+            return false;
+        }
+        jdbcTemplate.execute(ddl);
+        log.info("컬럼 추가: {}.{}", table, column);
+        return true;
+    }
+
+    private void createIndexIfMissing(String name, String ddl) {
+        try {
+            Integer exists = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, name);
+            if (exists == null || exists == 0) {
+                jdbcTemplate.execute(ddl);
+                log.info("인덱스 생성: {}", name);
+            }
+        } catch (DataAccessException e) {
+            log.warn("인덱스를 만들 수 없습니다: index={}, cause={}", name, e.getMessage());
+        }
+    }
+}
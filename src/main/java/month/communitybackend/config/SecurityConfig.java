@@ -1,8 +1,10 @@
 package month.communitybackend.config;
 
+import month.communitybackend.controller.CandleController;
 import month.communitybackend.security.CustomUserDetailsService;
 import month.communitybackend.security.JwtAuthenticationFilter;
-import month.communitybackend.security.JwtTokenProvider;
+import month.communitybackend.security.VerifiedTokenCache;
+import month.communitybackend.service.CurrentUserService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,7 +18,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import org.springframework.security.web.SecurityFilterChain;
@@ -32,27 +33,29 @@ import java.util.List;
 @Configuration
 public class SecurityConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokens;
+    private final CurrentUserService currentUser;
     private final CustomUserDetailsService userDetailsService;
+    // BoundedPasswordEncoder, 전용 스레드 풀에서 BCrypt 해싱
+    private final PasswordEncoder passwordEncoder;
 
     public SecurityConfig(
-            JwtTokenProvider jwtTokenProvider,
-            CustomUserDetailsService userDetailsService
+            VerifiedTokenCache verifiedTokens,
+            CurrentUserService currentUser,
+            CustomUserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder
     ) {
-        this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokens = verifiedTokens;
+        this.currentUser = currentUser;
         this.userDetailsService = userDetailsService;
-    }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        this.passwordEncoder = passwordEncoder;
     }
 
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
         return provider;
     }
 
@@ -82,10 +85,13 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
 
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        /** 에러 응답(400, 429 등)이 /error 로 포워딩될 때 401 로 바뀌지 않도록 허용 **/
+                        .requestMatchers("/error").permitAll()
                         /** 사용자 로그인 없이 GET 요청 가능한 API **/
                         .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/candles/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/tickers").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/stream").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/user/check-nickname").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/user/check-username").permitAll()
 
@@ -99,6 +105,9 @@ public class SecurityConfig {
                                 "/api/auth/verify-username-for-password-reset"
                         ).permitAll()
 
+                        /** 헬스 체크만 공개, 메트릭 등 나머지 actuator 는 인증 필요 **/
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+
                         /**Swagger UI 접근허용**/
                         .requestMatchers(
                                 "/swagger-ui/**",
@@ -111,7 +120,7 @@ public class SecurityConfig {
                 )
 
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider),
+                        new JwtAuthenticationFilter(verifiedTokens, currentUser),
                         UsernamePasswordAuthenticationFilter.class
                 );
 
@@ -124,6 +133,7 @@ public class SecurityConfig {
         config.setAllowedOrigins(List.of("http://localhost:3000"));
         config.setAllowedMethods(List.of("GET","POST","PUT","DELETE","OPTIONS"));
         config.setAllowedHeaders(List.of("Authorization","Content-Type"));
+        config.setExposedHeaders(List.of(CandleController.NEXT_CURSOR_HEADER));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,81 @@
+package month.communitybackend.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import month.communitybackend.service.MarketStreamService;
+import month.communitybackend.service.TickerCache;
+import month.communitybackend.service.UpbitClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class TickerScheduler {
+    private final UpbitClient upbitClient;
+    private final MarketStreamService marketStream;
+    private final TickerCache tickerCache;
+    private final long intervalMs;
+    // 1초 주기가 캔들 수집이나 집계 보정 같은 긴 @Scheduled 작업에 밀리지 않도록 공용 스케줄러 풀과 분리
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "ticker-poller");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TickerScheduler(
+            UpbitClient upbitClient,
+            MarketStreamService marketStream,
+            TickerCache tickerCache,
+            @Value("${stream.ticker-interval-ms:1000}") long intervalMs
+    ) {
+        this.upbitClient = upbitClient;
+        this.marketStream = marketStream;
+        this.tickerCache = tickerCache;
+        this.intervalMs = intervalMs;
+    }
+
+    /** 시작 후 전용 스레드에서 ticker-interval-ms 간격으로 시세 조회를 돌린다 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        poller.scheduleWithFixedDelay(this::pollTickersSafely, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+    }
+
+    /** 스트림 구독자가 있는 마켓만 모아 업비트 시세를 한 번에 조회하고 구독자에게 변경분을 전송 */
+    public void pollTickers() {
+        Set<String> markets = marketStream.activeMarkets();
+        if (markets.isEmpty()) {
+            return;
+        }
+        try {
+            List<Map<String, Object>> tickers = upbitClient.getTickers(String.join(",", markets));
+            tickerCache.putAll(tickers);
+            marketStream.publishTickers(tickers);
+        } catch (RestClientException e) {
+            log.warn("시세 조회 실패: markets={}, cause={}", markets, e.toString());
+        }
+    }
+
+    // 예외가 빠져나가면 ScheduledExecutorService 가 이후 실행을 멈추므로 여기서 막는다
+    private void pollTickersSafely() {
+        try {
+            pollTickers();
+        } catch (RuntimeException e) {
+            log.error("시세 조회 작업 오류", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package month.communitybackend.config;
+
+import lombok.RequiredArgsConstructor;
+import month.communitybackend.service.AuthorDetachJob;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserDeletionScheduler {
+    private final AuthorDetachJob authorDetachJob;
+
+    /** 시작 직후와 이후 주기마다 deleted 로 남은 사용자의 탈퇴 작업을 다시 시작 */
+    @Scheduled(fixedDelayString = "${user.deletion.retry-interval-ms:300000}")
+    public void resume() {
+        authorDetachJob.resume();
+    }
+}
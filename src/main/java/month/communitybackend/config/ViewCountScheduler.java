@@ -0,0 +1,26 @@
+package month.communitybackend.config;
+
+import lombok.RequiredArgsConstructor;
+import month.communitybackend.service.PostViewCounter;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ViewCountScheduler {
+    private final PostViewCounter viewCounter;
+
+    /** 메모리에 모인 게시글 조회수를 주기적으로 posts.view_count 에 반영 */
+    @Scheduled(fixedDelayString = "${post.views.flush-interval-ms:5000}")
+    public void flush() {
+        viewCounter.flush();
+    }
+
+    /** 종료 시 남은 조회수를 마지막으로 반영 */
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        viewCounter.flushAll();
+    }
+}
@@ -7,12 +7,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import month.communitybackend.domain.Role;
 import month.communitybackend.domain.User;
 import month.communitybackend.dto.UserDto;
+import month.communitybackend.security.LoginRateLimiter;
 import month.communitybackend.service.AuthService;
 import org.springframework.http.*;
 import org.springframework.security.core.Authentication;
@@ -28,12 +30,14 @@ import java.util.stream.Collectors;
 @Tag(name = "Auth Document", description = "회원가입, 로그인, 토큰 갱신과 같은 인증 API 문서화")
 public class AuthController {
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @PostMapping("/register")
     @Operation(summary = "회원 가입", description = "사용자 정보를 입력받아 회원가입을 처리합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "회원가입 성공", content = @Content(schema = @Schema(implementation = UserDto.Response.class))),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터입니다.", content = @Content)
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터입니다.", content = @Content),
+            @ApiResponse(responseCode = "503", description = "비밀번호 해싱 요청 과다, Retry-After 이후 재시도", content = @Content)
     })
     public ResponseEntity<UserDto.Response> register(
             @Valid @RequestBody UserDto.signupRequest dto
@@ -60,10 +64,15 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "로그인 성공",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(type = "object", example = "{\"accessToken\": \"(access token)\"}"))),
-            @ApiResponse(responseCode = "401", description = "인증 실패 (아이디 또는 비밀번호 오류)", content = @Content)
+            @ApiResponse(responseCode = "401", description = "인증 실패 (아이디 또는 비밀번호 오류)", content = @Content),
+            @ApiResponse(responseCode = "429", description = "아이디 또는 IP 의 로그인 시도 한도 초과, Retry-After 이후 재시도", content = @Content),
+            @ApiResponse(responseCode = "503", description = "비밀번호 해싱 요청 과다, Retry-After 이후 재시도", content = @Content)
     })
-    public ResponseEntity<?> login(@RequestBody UserDto.LoginRequest loginRequest, HttpServletResponse response) {
+    public ResponseEntity<?> login(@RequestBody UserDto.LoginRequest loginRequest, HttpServletRequest request, HttpServletResponse response) {
+        // 트랜잭션, DB 조회, BCrypt 검증 전에 시도 횟수부터 확인
+        loginRateLimiter.check(loginRequest.getUsername(), request.getRemoteAddr());
         Map<String, String> tokens = authService.login(loginRequest.getUsername(), loginRequest.getPassword());
+        loginRateLimiter.onSuccess(loginRequest.getUsername());
 
         Duration maxAge = loginRequest.isRememberMe() ? Duration.ofDays(14) : null; // 2주 또는 세션 쿠키
 
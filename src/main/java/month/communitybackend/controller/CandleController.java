@@ -1,34 +1,103 @@
 package month.communitybackend.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import month.communitybackend.domain.CandleInterval;
+import month.communitybackend.dto.CandleBackfillDto;
+import month.communitybackend.dto.CandleCursor;
 import month.communitybackend.dto.CandleDto;
+import month.communitybackend.dto.CandleSeries;
+import month.communitybackend.service.CandleBackfillService;
 import month.communitybackend.service.CandleService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/candles")
 @RequiredArgsConstructor
-@Tag(name = "Candle Chart Document", description = "비트코인 1분봉 차트 정보 조회 API")
+@Tag(name = "Candle Chart Document", description = "비트코인 캔들 차트 정보 조회 API")
 public class CandleController {
+    // 다음(더 과거) 페이지 커서를 담는 응답 헤더
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final CandleService candleService;
+    private final CandleBackfillService backfillService;
+
+    @Value("${candle.query.max-limit:1000}")
+    private int maxLimit;
+
     @GetMapping
-    @Operation(summary = "1분봉 캔들차트 데이터 조회", description = "Upbit Open API를 통해 1분봉 데이터 호출하여 DB에 저장한다.")
+    @Operation(summary = "캔들차트 데이터 조회", description = "저장된 1분봉을 최신순으로 조회합니다. interval(1m, 5m, 15m, 1h, 4h, 1d)을 지정하면 1분봉을 집계한 캔들을 반환합니다. "
+            + "from/to(epoch ms, to 제외)로 구간을 지정하거나, 이전 응답의 X-Next-Cursor 헤더 값을 before 로 넘겨 더 과거를 조회합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공")
+            @ApiResponse(responseCode = "200", description = "조회 성공, 더 과거 데이터가 있을 수 있으면 X-Next-Cursor 헤더 포함",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CandleDto.class)))),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 봉 단위, 잘못된 구간 또는 커서", content = @Content)
     })
-    public List<CandleDto> getCandles(
+    public ResponseEntity<CandleSeries> getCandles(
             @RequestParam(defaultValue = "KRW-BTC") String market,
-            @RequestParam(defaultValue = "50") int limit
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "1m") String interval,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) String before
     ) {
-        return candleService.getRecent(market, limit);
+        CandleInterval unit;
+        CandleCursor cursor;
+        try {
+            unit = CandleInterval.fromCode(interval);
+            cursor = before == null ? null : CandleCursor.decode(before, market, unit);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (limit <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit 은 1 이상이어야 합니다.");
+        }
+        int n = Math.min(limit, maxLimit);
+
+        CandleSeries series;
+        if (from == null && to == null && cursor == null) {
+            // 구간 조건이 없으면 캐시를 거치는 최신 조회
+            series = candleService.getRecent(market, unit, n);
+        } else {
+            long start = from == null ? Long.MIN_VALUE : from;
+            long end = to == null ? Long.MAX_VALUE : to;
+            if (cursor != null) {
+                end = Math.min(end, cursor.before());
+            }
+            if (start >= end) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from 은 to 보다 작아야 합니다.");
+            }
+            series = candleService.getRange(market, unit, start, end, n);
+        }
+
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (series.size() == n) {
+            ok.header(NEXT_CURSOR_HEADER, new CandleCursor(market, unit, series.openTime(n - 1)).encode());
+        }
+        return ok.body(series);
+    }
+
+    @GetMapping("/backfill")
+    @Operation(summary = "캔들 백필 진행 상황 조회", description = "마켓별 과거 1분봉 백필의 체크포인트, 저장량, 처리 속도를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public List<CandleBackfillDto.Status> getBackfillProgress() {
+        return backfillService.getProgress();
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package month.communitybackend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -7,19 +8,30 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import month.communitybackend.domain.Comment;
 import month.communitybackend.dto.CommentDto;
+import month.communitybackend.dto.CursorSlice;
+import month.communitybackend.dto.KeysetCursor;
 import month.communitybackend.service.CommentService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping("/api/posts/{postId}/comments")
 @RequiredArgsConstructor
 @Tag(name = "Comment Document", description = "게시글 댓글 작성 API 문서화")
 public class CommentController {
+    private static final String NDJSON = "application/x-ndjson";
+    // 목록 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentService commentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "댓글 작성", description = "텍스트를 입력 받아 댓글로 등록합니다.")
@@ -34,14 +46,51 @@ public class CommentController {
     }
 
     @GetMapping
-    @Operation(summary = "댓글 조회", description = "게시글의 ID를 통해 해당 게시글의 댓글을 조회합니다.")
+    @Operation(summary = "댓글 조회", description = "게시글의 ID를 통해 해당 게시글의 댓글을 작성순으로 size 개씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "댓글 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 size")
+    })
+    public CursorSlice<CommentDto.Response> list(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        KeysetCursor after;
+        try {
+            after = KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return commentService.listByPost(postId, after, size);
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    @Operation(summary = "댓글 내보내기", description = "게시글의 전체 댓글을 작성순으로 한 줄에 하나씩(NDJSON) 스트리밍합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "댓글 조회 성공")
+            @ApiResponse(responseCode = "200", description = "내보내기 성공")
     })
-    public List<CommentDto.Response> list(@PathVariable Long postId) {
-        return commentService.listByPost(postId).stream()
-                .map(CommentDto.Response::from)
-                .toList();
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable Long postId) {
+        StreamingResponseBody body = out -> {
+            try {
+                commentService.exportByPost(postId, chunk -> {
+                    try {
+                        for (CommentDto.Response c : chunk) {
+                            out.write(objectMapper.writeValueAsBytes(c));
+                            out.write('\n');
+                        }
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
     }
 
     @DeleteMapping("/{commentId}")
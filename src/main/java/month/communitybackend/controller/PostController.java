@@ -1,29 +1,48 @@
 package month.communitybackend.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import month.communitybackend.domain.Post;
+import month.communitybackend.dto.CursorSlice;
+import month.communitybackend.dto.KeysetCursor;
 import month.communitybackend.dto.PostDto;
+import month.communitybackend.service.HotPostService;
+import month.communitybackend.service.PostResponseCache;
 import month.communitybackend.service.PostService;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import month.communitybackend.service.PostViewCounter;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import month.communitybackend.dto.PostDto.Response;
 
+import java.security.Principal;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
 @Tag(name = "Post Document", description = "게시글 작성 API 문서화")
 public class PostController {
+    // 목록 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+    // 검색은 관련도순 offset 페이지라 깊은 페이지를 막는다
+    private static final int MAX_SEARCH_PAGES = 50;
+    private static final int MIN_QUERY_LENGTH = 2;
+
     private final PostService postService;
+    private final PostResponseCache postCache;
+    private final HotPostService hotPosts;
+    private final PostViewCounter viewCounter;
 
     @PostMapping
     @Operation(summary = "게시글 작성", description = "텍스트를 입력 받아 게시글로 등록합니다.")
@@ -45,25 +64,69 @@ public class PostController {
     }
 
     @GetMapping
-    @Operation(summary = "게시글 조회", description = "게시글을 페이지 단위로 게시글을 조회합니다.")
+    @Operation(summary = "게시글 조회", description = "게시글을 최신순으로 size 개씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Size 만큼의 갯수를 가진 페이지를 조회 성공 ")
+            @ApiResponse(responseCode = "200", description = "Size 만큼의 갯수를 가진 페이지를 조회 성공 "),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 size")
     })
-    public Page<PostDto.Response> list(
-            @RequestParam(defaultValue="0") int page,
+    public CursorSlice<PostDto.Summary> list(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue="10") int size
     ) {
-        return postService.list(page, size);
+        return postService.list(parseCursor(cursor), checkSize(size));
+    }
+
+    @GetMapping("/hot")
+    @Operation(summary = "시장별 인기글 조회", description = "최근 조회/댓글 활동을 시간 감쇠해 합산한 점수가 높은 게시글을 조회합니다. 순위는 몇 초 간격으로 갱신됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "인기글 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "limit 범위 초과")
+    })
+    public List<PostDto.Summary> hot(
+            @RequestParam String market,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return hotPosts.getHot(market, checkSize(limit));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "게시글 검색", description = "게시글 제목/본문과 댓글 내용에서 q 를 검색해 관련도순으로 조회합니다. market 을 지정하면 해당 시장 게시글만 검색합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어가 너무 짧거나 page/size 범위 초과")
+    })
+    public Slice<PostDto.SearchHit> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String market,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        String query = q.strip();
+        // ngram 토큰 크기(기본 2)보다 짧은 검색어는 일치하는 토큰이 없다
+        if (query.length() < MIN_QUERY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어는 " + MIN_QUERY_LENGTH + "자 이상이어야 합니다.");
+        }
+        if (page < 0 || page >= MAX_SEARCH_PAGES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page 는 0 이상 " + MAX_SEARCH_PAGES + " 미만이어야 합니다.");
+        }
+        return postService.search(query, market, page, checkSize(size));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "단일 게시글 조회", description = "게시글 ID를 통해 하나의 게시글의 대한 정보를 조회합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "게시글 조회 성공")
+            @ApiResponse(responseCode = "200", description = "게시글 조회 성공",
+                    content = @Content(schema = @Schema(implementation = PostDto.Response.class)))
     })
-    public ResponseEntity<PostDto.Response> get(@PathVariable Long id) {
-        PostDto.Response p = postService.get(id);
-        return ResponseEntity.ok(p);
+    public ResponseEntity<byte[]> get(@PathVariable Long id, Principal principal, HttpServletRequest request) {
+        // 직렬화된 응답을 캐시에서 그대로 내려준다
+        byte[] body = postCache.get(id, postService::get);
+        // 조회수와 인기 점수는 중복 제거 창 안의 재조회를 세지 않는다
+        String viewer = principal != null ? "u:" + principal.getName() : "ip:" + request.getRemoteAddr();
+        if (viewCounter.record(id, viewer)) {
+            hotPosts.onView(id);
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @PutMapping("/{id}")
@@ -96,29 +159,44 @@ public class PostController {
     }
 
     @GetMapping("/market/{market}")
-    @Operation(summary = "시장별 게시글 조회", description = "특정 시장(예: BTC, ETH)에 해당하는 게시글을 페이지 단위로 조회합니다.")
+    @Operation(summary = "시장별 게시글 조회", description = "특정 시장(예: BTC, ETH)에 해당하는 게시글을 최신순으로 size 개씩 조회합니다. 다음 페이지는 nextCursor 를 cursor 로 넘겨 조회합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "시장별 게시글 조회 성공")
+            @ApiResponse(responseCode = "200", description = "시장별 게시글 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 size")
     })
-    public ResponseEntity<Page<PostDto.Response>> getPostsByMarket(
+    public ResponseEntity<CursorSlice<PostDto.Summary>> getPostsByMarket(
             @PathVariable String market,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<PostDto.Response> posts = postService.getPostsByMarket(market, pageable);
+        CursorSlice<PostDto.Summary> posts = postService.getPostsByMarket(market, parseCursor(cursor), checkSize(size));
         return ResponseEntity.ok(posts);
     }
 
     @GetMapping("/my")
-    @Operation(summary = "내 게시글 조회", description = "현재 로그인한 사용자가 작성한 게시글을 페이지 단위로 조회합니다.")
+    @Operation(summary = "내 게시글 조회", description = "현재 로그인한 사용자가 작성한 게시글을 최신순으로 size 개씩 조회합니다. 다음 페이지는 nextCursor 를 cursor 로 넘겨 조회합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "내 게시글 조회 성공")
+            @ApiResponse(responseCode = "200", description = "내 게시글 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 size")
     })
-    public ResponseEntity<Page<PostDto.Response>> getMyPosts(
-            @RequestParam(defaultValue = "0") int page,
+    public ResponseEntity<CursorSlice<PostDto.Summary>> getMyPosts(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<PostDto.Response> posts = postService.getMyPosts(pageable);
+        CursorSlice<PostDto.Summary> posts = postService.getMyPosts(parseCursor(cursor), checkSize(size));
         return ResponseEntity.ok(posts);
     }
+
+    private static KeysetCursor parseCursor(String cursor) {
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static int checkSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
 }
\ No newline at end of file
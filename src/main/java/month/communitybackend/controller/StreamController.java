@@ -0,0 +1,56 @@
+package month.communitybackend.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import month.communitybackend.domain.Markets;
+import month.communitybackend.service.MarketStreamService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+@Tag(name = "Stream Document", description = "실시간 캔들/시세 스트림 API 문서화")
+public class StreamController {
+    // 연결 하나가 구독할 수 있는 최대 마켓 수
+    private static final int MAX_MARKETS = 50;
+
+    private final MarketStreamService marketStream;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "실시간 스트림 구독", description = "쉼표로 구분된 마켓 코드(예: KRW-BTC,KRW-ETH)를 구독합니다. 새 1분봉은 candle 이벤트, 시세 변경분은 ticker 이벤트로 전송됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(responseCode = "400", description = "마켓 코드가 없거나 너무 많음, 또는 지원하지 않는 마켓"),
+            @ApiResponse(responseCode = "503", description = "구독자 수 초과")
+    })
+    public SseEmitter subscribe(@RequestParam("markets") String marketsCsv) {
+        Set<String> markets = Arrays.stream(marketsCsv.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        if (markets.isEmpty() || markets.size() > MAX_MARKETS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "마켓은 1개 이상 " + MAX_MARKETS + "개 이하로 지정해야 합니다.");
+        }
+        // 구독 마켓은 시세 폴링 요청 하나에 합쳐지므로, 잘못된 코드 하나가 모든 구독자의 시세를 막지 않도록 거른다
+        List<String> unknown = markets.stream().filter(m -> !Markets.isSupported(m)).sorted().toList();
+        if (!unknown.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 마켓입니다: " + String.join(",", unknown));
+        }
+        return marketStream.subscribe(markets);
+    }
+}
@@ -1,5 +1,6 @@
 package month.communitybackend.controller;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -7,48 +8,40 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import lombok.RequiredArgsConstructor;
+import month.communitybackend.domain.Markets;
+import month.communitybackend.service.TickerCache;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
+@RequiredArgsConstructor
 @Tag(name = "Ticker Document", description = "실시간 시세 조회 API 문서화")
 public class TickerController {
 
-    private final RestTemplate rt = new RestTemplate();
+    private final TickerCache tickerCache;
 
     @GetMapping("/api/tickers")
     @Operation(summary = "실시간 시세 조회", description = "업비트 API를 통해 실시간 시세를 조회합니다. 쉼표로 구분된 마켓 코드(예: KRW-BTC,KRW-ETH)를 입력받습니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "시세 조회 성공")
+            @ApiResponse(responseCode = "200", description = "시세 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 마켓")
     })
     public List<Map<String, Object>> getTickers(
             @RequestParam("markets") String marketsCsv
     ) {
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-
-
-        HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
-
-
-        String url = "https://api.upbit.com/v1/ticker?markets={markets}";
-        ResponseEntity<List> resp = rt.exchange(
-                url,
-                HttpMethod.GET,
-                requestEntity,
-                List.class,
-                marketsCsv
-        );
-
-        // 4) 그대로 반환
-        return resp.getBody();
+        // 마켓별로 나눠 캐시에서 조회, 만료된 마켓만 업비트에 한 번 요청
+        List<String> markets = Arrays.stream(marketsCsv.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+        List<String> unknown = markets.stream().filter(m -> !Markets.isSupported(m)).distinct().toList();
+        if (!unknown.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 마켓입니다: " + String.join(",", unknown));
+        }
+        return tickerCache.get(markets);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package month.communitybackend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// 마켓별 과거 캔들 백필 진행 상황, 재시작 시 oldestOpenTime 부터 이어서 진행
+@Entity
+@Table(name = "candle_backfill_checkpoints")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class CandleBackfillCheckpoint {
+    @Id
+    @Column(length = 50)
+    private String market;
+
+    // 지금까지 백필한 가장 오래된 봉 시각, 다음 요청의 to 로 사용
+    @Column(nullable = false)
+    private Long oldestOpenTime;
+
+    // 이 시각까지 거슬러 올라가면 완료
+    @Column(nullable = false)
+    private Long targetOpenTime;
+
+    @Column(nullable = false)
+    private long candlesWritten;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
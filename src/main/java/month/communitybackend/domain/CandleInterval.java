@@ -0,0 +1,41 @@
+package month.communitybackend.domain;
+
+import java.util.Arrays;
+
+// 차트 봉 단위, 1분봉 외에는 저장된 1분봉을 집계해 만든다 (UTC 기준 정렬)
+public enum CandleInterval {
+    M1("1m", 1),
+    M5("5m", 5),
+    M15("15m", 15),
+    H1("1h", 60),
+    H4("4h", 240),
+    D1("1d", 1440);
+
+    private final String code;
+    private final long millis;
+
+    CandleInterval(String code, int minutes) {
+        this.code = code;
+        this.millis = minutes * 60_000L;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public long millis() {
+        return millis;
+    }
+
+    // openTime 이 속한 봉의 시작 시각
+    public long bucketStart(long openTime) {
+        return openTime - Math.floorMod(openTime, millis);
+    }
+
+    public static CandleInterval fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(i -> i.code.equals(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 봉 단위입니다: " + code));
+    }
+}
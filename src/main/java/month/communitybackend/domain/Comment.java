@@ -11,7 +11,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments",
+        // 게시글별 댓글 keyset 페이지용
+        indexes = @Index(name = "idx_comments_post_created_id", columnList = "post_id, created_at, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
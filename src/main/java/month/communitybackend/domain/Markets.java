@@ -0,0 +1,17 @@
+package month.communitybackend.domain;
+
+import java.util.List;
+import java.util.Set;
+
+// 캔들을 수집하고 시세/스트림을 제공하는 마켓 코드
+public final class Markets {
+    public static final List<String> SUPPORTED = List.of("KRW-BTC", "KRW-ETH", "KRW-XRP", "KRW-SOL", "KRW-SAND", "KRW-DOGE", "KRW-TRUMP", "KRW-STRIKE");
+    private static final Set<String> SUPPORTED_SET = Set.copyOf(SUPPORTED);
+
+    private Markets() {
+    }
+
+    public static boolean isSupported(String market) {
+        return SUPPORTED_SET.contains(market);
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,12 +13,19 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 목록 keyset 페이지용 (createdAt, id) 정렬 인덱스
+        @Index(name = "idx_posts_created_id", columnList = "created_at, id"),
+        @Index(name = "idx_posts_market_created_id", columnList = "market, created_at, id"),
+        @Index(name = "idx_posts_author_created_id", columnList = "author_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Post {
+    public static final int EXCERPT_LENGTH = 150;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -28,6 +36,10 @@ public class Post {
     @Lob
     private String content;
 
+    // 목록 조회에서 LOB 을 읽지 않도록 본문 앞부분을 따로 보관
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     // author_id 컬럼, 사용자가 삭제되면 게시글 author는 NULL 처리
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id")
@@ -36,6 +48,16 @@ public class Post {
     @Column(nullable = false, length = 50)
     private String market;
 
+    // 댓글 수, PostRepository 의 증감 쿼리와 CommentCountReconciler 만 갱신한다 (엔티티 저장 시 덮어쓰지 않음)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long commentCount;
+
+    // 조회수, PostViewCounter 가 모아 둔 증가분을 주기적으로 더한다 (엔티티 저장 시 덮어쓰지 않음)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long viewCount;
+
 
 
     @CreationTimestamp
@@ -46,4 +68,24 @@ public class Post {
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments;
+
+    @PrePersist
+    @PreUpdate
+    void fillExcerpt() {
+        excerpt = excerptOf(content);
+    }
+
+    // 공백을 하나로 줄인 본문 앞 EXCERPT_LENGTH 자
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String flat = content.strip().replaceAll("\\s+", " ");
+        if (flat.length() <= EXCERPT_LENGTH) {
+            return flat;
+        }
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 한 글자 앞에서 자른다
+        int end = Character.isHighSurrogate(flat.charAt(EXCERPT_LENGTH - 1)) ? EXCERPT_LENGTH - 1 : EXCERPT_LENGTH;
+        return flat.substring(0, end);
+    }
 }
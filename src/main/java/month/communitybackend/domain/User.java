@@ -2,6 +2,7 @@ package month.communitybackend.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -32,6 +33,11 @@ public class User {
     @Column(length = 100)
     private String nickname;
 
+    // 탈퇴 처리 중 (글/댓글이 많아 비동기로 작성자를 끊는 동안 로그인 차단)
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean deleted;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
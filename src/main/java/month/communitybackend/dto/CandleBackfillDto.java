@@ -0,0 +1,27 @@
+package month.communitybackend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+public class CandleBackfillDto {
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+    @Schema(description = "마켓별 캔들 백필 진행 상황 DTO")
+    public static class Status {
+        @Schema(description = "마켓 코드", example = "KRW-BTC")
+        private String market;
+        @Schema(description = "지금까지 백필한 가장 오래된 봉 시각 (epoch ms)", example = "1672531200000")
+        private long oldestOpenTime;
+        @Schema(description = "백필 목표 시각 (epoch ms)", example = "1670000000000")
+        private long targetOpenTime;
+        @Schema(description = "저장한 캔들 수", example = "43200")
+        private long candlesWritten;
+        @Schema(description = "최근 실행의 초당 저장 캔들 수", example = "1500.0")
+        private double candlesPerSecond;
+        @Schema(description = "목표 초당 저장 캔들 수", example = "1500")
+        private long targetCandlesPerSecond;
+        @Schema(description = "완료 여부", example = "false")
+        private boolean completed;
+        @Schema(description = "실행 중 여부", example = "true")
+        private boolean running;
+    }
+}
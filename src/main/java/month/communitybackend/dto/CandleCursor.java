@@ -0,0 +1,33 @@
+package month.communitybackend.dto;
+
+import month.communitybackend.domain.CandleInterval;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 캔들 이전 페이지 커서. 마지막으로 받은 가장 오래된 봉 시각을 마켓/단위와 함께 담는다.
+ * 클라이언트에는 base64url 문자열로만 노출되며, 다른 마켓이나 단위의 커서는 거부한다.
+ */
+public record CandleCursor(String market, CandleInterval interval, long before) {
+
+    public String encode() {
+        String raw = market + '|' + interval.code() + '|' + before;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CandleCursor decode(String cursor, String market, CandleInterval interval) {
+        String[] parts;
+        long before;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            before = parts.length == 3 ? Long.parseLong(parts[2]) : -1;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (parts.length != 3 || !parts[0].equals(market) || !parts[1].equals(interval.code())) {
+            throw new IllegalArgumentException("요청한 마켓/봉 단위의 커서가 아닙니다.");
+        }
+        return new CandleCursor(market, interval, before);
+    }
+}
@@ -0,0 +1,207 @@
+package month.communitybackend.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 마켓의 캔들 목록을 컬럼별 primitive 배열로 보관하는 타입.
+ * 가격은 10^SCALE, 거래량은 10^VOLUME_SCALE 배 한 고정소수점 long 으로 저장하며, 행은 항상 최신순(openTime 내림차순)이다.
+ * 거래량은 일봉 합계나 저가 코인에서 커지므로 자릿수를 줄여 범위를 넓히고, 그래도 넘치면 long 범위로 포화시킨다.
+ * BigDecimal 은 DB 저장이나 toDtos() 처럼 경계에서만 만든다.
+ */
+@JsonSerialize(using = CandleSeriesSerializer.class)
+public final class CandleSeries {
+    public static final int SCALE = 8;
+    static final long ONE = 100_000_000L; // 10^SCALE
+    public static final int VOLUME_SCALE = 4;
+
+    private final String market;
+    private final int size;
+    private final long[] openTime;
+    private final long[] open;
+    private final long[] high;
+    private final long[] low;
+    private final long[] close;
+    private final long[] volume;
+
+    private CandleSeries(String market, int size, long[] openTime, long[] open, long[] high,
+                         long[] low, long[] close, long[] volume) {
+        this.market = market;
+        this.size = size;
+        this.openTime = openTime;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+    }
+
+    public static CandleSeries empty(String market) {
+        return builder(market, 0).build();
+    }
+
+    public static Builder builder(String market, int expectedSize) {
+        return new Builder(market, expectedSize);
+    }
+
+    // 업비트 응답이나 JPA 엔티티처럼 BigDecimal 로 들어온 캔들을 변환
+    public static CandleSeries fromDtos(String market, List<CandleDto> dtos) {
+        Builder b = builder(market, dtos.size());
+        for (CandleDto d : dtos) {
+            b.add(d.getOpenTime(), toScaled(d.getOpen()), toScaled(d.getHigh()), toScaled(d.getLow()),
+                    toScaled(d.getClose()), toScaledVolume(d.getVolume()));
+        }
+        return b.build();
+    }
+
+    // 정확한 소수 값이 필요한 호출자를 위한 변환, 행마다 BigDecimal 을 만든다
+    public List<CandleDto> toDtos() {
+        List<CandleDto> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(CandleDto.builder()
+                    .market(market)
+                    .openTime(openTime[i])
+                    .open(toDecimal(open[i]))
+                    .high(toDecimal(high[i]))
+                    .low(toDecimal(low[i]))
+                    .close(toDecimal(close[i]))
+                    .volume(toDecimalVolume(volume[i]))
+                    .build());
+        }
+        return result;
+    }
+
+    public static long toScaled(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long scaled) {
+        return toDecimal(scaled, SCALE);
+    }
+
+    // 거래량은 예외 대신 long 범위로 포화, 응답 전체가 실패하지 않도록
+    public static long toScaledVolume(BigDecimal value) {
+        BigInteger unscaled = value.setScale(VOLUME_SCALE, RoundingMode.HALF_UP).unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            return unscaled.longValue();
+        }
+        return unscaled.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+    public static BigDecimal toDecimalVolume(long scaled) {
+        return toDecimal(scaled, VOLUME_SCALE);
+    }
+
+    private static BigDecimal toDecimal(long scaled, int scale) {
+        BigDecimal d = BigDecimal.valueOf(scaled, scale).stripTrailingZeros();
+        return d.scale() < 0 ? d.setScale(0) : d;
+    }
+
+    public String market() { return market; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public long openTime(int i) { return openTime[i]; }
+    public long open(int i) { return open[i]; }
+    public long high(int i) { return high[i]; }
+    public long low(int i) { return low[i]; }
+    public long close(int i) { return close[i]; }
+    public long volume(int i) { return volume[i]; }
+
+    public static final class Builder {
+        private final String market;
+        private int size;
+        private long[] openTime;
+        private long[] open;
+        private long[] high;
+        private long[] low;
+        private long[] close;
+        private long[] volume;
+
+        private Builder(String market, int expectedSize) {
+            int cap = Math.max(expectedSize, 4);
+            this.market = market;
+            this.openTime = new long[cap];
+            this.open = new long[cap];
+            this.high = new long[cap];
+            this.low = new long[cap];
+            this.close = new long[cap];
+            this.volume = new long[cap];
+        }
+
+        public Builder add(long t, long o, long h, long l, long c, long v) {
+            if (size == openTime.length) {
+                grow();
+            }
+            openTime[size] = t;
+            open[size] = o;
+            high[size] = h;
+            low[size] = l;
+            close[size] = c;
+            volume[size] = v;
+            size++;
+            return this;
+        }
+
+        public CandleSeries build() {
+            if (!isDescending()) {
+                sortDescending();
+            }
+            return new CandleSeries(market, size, openTime, open, high, low, close, volume);
+        }
+
+        private boolean isDescending() {
+            for (int i = 1; i < size; i++) {
+                if (openTime[i - 1] <= openTime[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 드문 경로: 순서가 섞여 들어오면 openTime 내림차순으로 정렬하고 같은 시각은 마지막 값만 남긴다
+        private void sortDescending() {
+            Integer[] idx = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                idx[i] = i;
+            }
+            Arrays.sort(idx, (a, b) -> a.equals(b) ? 0
+                    : openTime[a] != openTime[b] ? Long.compare(openTime[b], openTime[a]) : Integer.compare(b, a));
+            long[][] cols = {openTime, open, high, low, close, volume};
+            long[][] sorted = new long[cols.length][size];
+            int n = 0;
+            for (int k = 0; k < size; k++) {
+                int i = idx[k];
+                if (n > 0 && sorted[0][n - 1] == openTime[i]) {
+                    continue;
+                }
+                for (int col = 0; col < cols.length; col++) {
+                    sorted[col][n] = cols[col][i];
+                }
+                n++;
+            }
+            openTime = sorted[0];
+            open = sorted[1];
+            high = sorted[2];
+            low = sorted[3];
+            close = sorted[4];
+            volume = sorted[5];
+            size = n;
+        }
+
+        private void grow() {
+            int cap = openTime.length * 2;
+            openTime = Arrays.copyOf(openTime, cap);
+            open = Arrays.copyOf(open, cap);
+            high = Arrays.copyOf(high, cap);
+            low = Arrays.copyOf(low, cap);
+            close = Arrays.copyOf(close, cap);
+            volume = Arrays.copyOf(volume, cap);
+        }
+    }
+}
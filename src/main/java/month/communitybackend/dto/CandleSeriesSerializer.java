@@ -0,0 +1,78 @@
+package month.communitybackend.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * CandleSeries 를 CandleDto 목록과 같은 JSON 배열로 출력한다.
+ * 고정소수점 long 을 그대로 십진 문자열로 써서 행마다 BigDecimal/CandleDto 를 만들지 않는다.
+ */
+public class CandleSeriesSerializer extends StdSerializer<CandleSeries> {
+    private static final long[] POW10 = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L};
+
+    public CandleSeriesSerializer() {
+        super(CandleSeries.class);
+    }
+
+    @Override
+    public void serialize(CandleSeries series, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buf = new char[32];
+        gen.writeStartArray(series, series.size());
+        for (int i = 0; i < series.size(); i++) {
+            gen.writeStartObject();
+            gen.writeStringField("market", series.market());
+            gen.writeNumberField("timestamp", series.openTime(i));
+            writeDecimalField(gen, "opening_price", series.open(i), CandleSeries.SCALE, buf);
+            writeDecimalField(gen, "high_price", series.high(i), CandleSeries.SCALE, buf);
+            writeDecimalField(gen, "low_price", series.low(i), CandleSeries.SCALE, buf);
+            writeDecimalField(gen, "trade_price", series.close(i), CandleSeries.SCALE, buf);
+            writeDecimalField(gen, "candle_acc_trade_volume", series.volume(i), CandleSeries.VOLUME_SCALE, buf);
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeDecimalField(JsonGenerator gen, String name, long scaled, int scale, char[] buf)
+            throws IOException {
+        gen.writeFieldName(name);
+        int len = formatScaled(scaled, scale, buf);
+        gen.writeNumber(buf, 0, len);
+    }
+
+    // 10^scale 로 스케일된 값을 끝자리 0 없는 십진수 표기로 buf 에 채우고 길이를 반환
+    static int formatScaled(long scaled, int scale, char[] buf) {
+        int pos = buf.length;
+        boolean negative = scaled < 0;
+        long one = POW10[scale];
+        // Long.MIN_VALUE 는 부호를 뒤집을 수 없으므로 몫/나머지를 음수 그대로 구해 부호를 뗀다
+        long intPart = Math.abs(scaled / one);
+        long frac = Math.abs(scaled % one);
+
+        if (frac != 0) {
+            int digits = scale;
+            while (frac % 10 == 0) {
+                frac /= 10;
+                digits--;
+            }
+            for (int d = 0; d < digits; d++) {
+                buf[--pos] = (char) ('0' + frac % 10);
+                frac /= 10;
+            }
+            buf[--pos] = '.';
+        }
+        do {
+            buf[--pos] = (char) ('0' + intPart % 10);
+            intPart /= 10;
+        } while (intPart != 0);
+        if (negative) {
+            buf[--pos] = '-';
+        }
+
+        int len = buf.length - pos;
+        System.arraycopy(buf, pos, buf, 0, len);
+        return len;
+    }
+}
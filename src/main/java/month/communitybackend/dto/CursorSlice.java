@@ -0,0 +1,26 @@
+package month.communitybackend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter @AllArgsConstructor
+@Schema(description = "커서 기반 목록 응답 DTO, 전체 개수는 세지 않는다")
+public class CursorSlice<T> {
+    @Schema(description = "현재 페이지 항목")
+    private List<T> content;
+    @Schema(description = "다음 페이지 커서, 마지막 페이지면 null", example = "MjAyNS0wNy0wMVQxMjowMDowMHw0Mg")
+    private String nextCursor;
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    // size + 1 개를 조회한 결과로 슬라이스를 만든다, 초과분 한 개는 다음 페이지 존재 여부 확인용
+    public static <E, T> CursorSlice<T> of(List<E> rows, int size, Function<E, KeysetCursor> key, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? key.apply(page.get(size - 1)).encode() : null;
+        return new CursorSlice<>(page.stream().map(mapper).toList(), next, hasNext);
+    }
+}
@@ -63,5 +63,56 @@ public class PostDto {
         @Schema(description = "수정 시간")
         private LocalDateTime updatedAt;
     }
-}
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @Schema(description = "게시글 목록 항목 DTO, 본문 대신 요약만 포함")
+    public static class Summary {
+        @Schema(description = "게시글 ID", example = "1")
+        private Long id;
+        @Schema(description = "게시글 제목", example = "비트코인 전망에 대해 토론해봅시다.")
+        private String title;
+        @Schema(description = "본문 앞부분 요약", example = "최근 비트코인 가격 변동성이 큰데, 다들 어떻게...")
+        private String excerpt;
+        @Schema(description = "작성자 닉네임", example = "코인왕")
+        private String authorUsername;
+        @Schema(description = "관련 코인 마켓 코드", example = "KRW-BTC")
+        private String market;
+        @Schema(description = "생성 시간")
+        private LocalDateTime createdAt;
+        @Schema(description = "수정 시간")
+        private LocalDateTime updatedAt;
+        @Schema(description = "댓글 수", example = "3")
+        private long commentCount;
+        @Schema(description = "조회수, 수 초 간격으로 반영", example = "42")
+        private long viewCount;
+
+        // PostRepository 의 JPQL 생성자 표현식에서 사용, 탈퇴한 사용자는 author 가 null
+        public Summary(Long id, String title, String excerpt, String authorUsername, String market,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, Long commentCount, Long viewCount) {
+            this.id = id;
+            this.title = title;
+            this.excerpt = excerpt;
+            this.authorUsername = authorUsername != null ? authorUsername : "탈퇴한 사용자";
+            this.market = market;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+            this.commentCount = commentCount != null ? commentCount : 0;
+            this.viewCount = viewCount != null ? viewCount : 0;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "게시글 검색 결과 항목 DTO")
+    public static class SearchHit {
+        @Schema(description = "게시글 요약")
+        private Summary post;
+        @Schema(description = "검색 관련도 점수, 제목/본문 일치와 댓글 일치(가중치 적용)의 합", example = "3.52")
+        private double score;
+    }
+}
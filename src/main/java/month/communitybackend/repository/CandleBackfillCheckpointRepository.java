@@ -0,0 +1,7 @@
+package month.communitybackend.repository;
+
+import month.communitybackend.domain.CandleBackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CandleBackfillCheckpointRepository extends JpaRepository<CandleBackfillCheckpoint, String> {
+}
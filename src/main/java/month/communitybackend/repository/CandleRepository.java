@@ -6,7 +6,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
-public interface CandleRepository extends JpaRepository<Candle, CandleId> {
+public interface CandleRepository extends JpaRepository<Candle, CandleId>, CandleRepositoryCustom {
     List<Candle> findByIdMarketOrderByIdOpenTimeDesc(String market, Pageable pageable);
+    Optional<Candle> findFirstByIdMarketOrderByIdOpenTimeDesc(String market);
+    Optional<Candle> findFirstByIdMarketOrderByIdOpenTimeAsc(String market);
 }
\ No newline at end of file
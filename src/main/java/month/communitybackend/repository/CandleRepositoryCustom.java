@@ -0,0 +1,41 @@
+package month.communitybackend.repository;
+
+import month.communitybackend.dto.CandleSeries;
+
+import java.util.Collection;
+import java.util.List;
+
+// JPA merge 대신 JDBC 로 캔들을 일괄 저장하기 위한 확장 인터페이스
+public interface CandleRepositoryCustom {
+
+    // INSERT ... ON DUPLICATE KEY UPDATE 를 candle.batch-size 행 단위로 실행
+    UpsertResult upsertAll(Collection<CandleSeries> series);
+
+    // [from, to) 구간의 1분봉 최신 limit 개, (market, open_time) 인덱스를 바로 탐색하고 엔티티 없이 컬럼 배열로 읽는다
+    CandleSeries findRange(String market, long from, long to, int limit);
+
+    // market 의 1분봉을 intervalMs 단위로 집계, from(포함) 이후의 최신 limit 개 구간을 최신순으로 반환
+    default List<RollupBucket> findRollups(String market, long intervalMs, long from, int limit) {
+        return findRollups(market, intervalMs, from, Long.MAX_VALUE, limit);
+    }
+
+    // [from, to) 구간의 1분봉만 집계, from/to 는 intervalMs 단위로 맞춰서 넘긴다
+    List<RollupBucket> findRollups(String market, long intervalMs, long from, long to, int limit);
+
+    // 집계 구간 하나, lastTime/lastVolume 은 구간의 마지막 1분봉 (증분 집계를 이어가기 위해 필요)
+    record RollupBucket(long start, long open, long high, long low, long close, long volume,
+                        long lastTime, long lastVolume) {
+    }
+
+    record UpsertResult(int inserted, int updated) {
+        public static final UpsertResult EMPTY = new UpsertResult(0, 0);
+
+        public UpsertResult plus(UpsertResult other) {
+            return new UpsertResult(inserted + other.inserted, updated + other.updated);
+        }
+
+        public int total() {
+            return inserted + updated;
+        }
+    }
+}
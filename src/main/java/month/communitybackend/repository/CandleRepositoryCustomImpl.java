@@ -0,0 +1,146 @@
+package month.communitybackend.repository;
+
+import month.communitybackend.dto.CandleSeries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class CandleRepositoryCustomImpl implements CandleRepositoryCustom {
+    private static final String INSERT_PREFIX =
+            "INSERT INTO candles (market, open_time, open, high, low, close, volume) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX = " ON DUPLICATE KEY UPDATE"
+            + " open = VALUES(open), high = VALUES(high), low = VALUES(low),"
+            + " close = VALUES(close), volume = VALUES(volume)";
+
+    // 구간별 고가/저가/거래량은 GROUP BY 로, 시가/종가는 구간의 첫/마지막 1분봉을 PK 로 다시 찾는다
+    private static final String ROLLUP_SQL = "SELECT b.bucket, o.open, b.high, b.low, c.close, b.volume,"
+            + " b.last_time, c.volume AS last_volume"
+            + " FROM (SELECT open_time - MOD(open_time, ?) AS bucket, MIN(open_time) AS first_time,"
+            + "       MAX(open_time) AS last_time, MAX(high) AS high, MIN(low) AS low, SUM(volume) AS volume"
+            + "       FROM candles WHERE market = ? AND open_time >= ? AND open_time < ?"
+            + "       GROUP BY bucket ORDER BY bucket DESC LIMIT ?) b"
+            + " JOIN candles o ON o.market = ? AND o.open_time = b.first_time"
+            + " JOIN candles c ON c.market = ? AND c.open_time = b.last_time"
+            + " ORDER BY b.bucket DESC";
+
+    private static final String RANGE_SQL = "SELECT open_time, open, high, low, close, volume FROM candles"
+            + " WHERE market = ? AND open_time >= ? AND open_time < ?"
+            + " ORDER BY open_time DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public CandleRepositoryCustomImpl(JdbcTemplate jdbcTemplate,
+                                      @Value("${candle.batch-size:500}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("candle.batch-size 는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public UpsertResult upsertAll(Collection<CandleSeries> series) {
+        List<Row> batch = new ArrayList<>(batchSize);
+        UpsertResult result = UpsertResult.EMPTY;
+        for (CandleSeries s : series) {
+            for (int i = 0; i < s.size(); i++) {
+                batch.add(new Row(s, i));
+                if (batch.size() == batchSize) {
+                    result = result.plus(flush(batch));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            result = result.plus(flush(batch));
+        }
+        return result;
+    }
+
+    @Override
+    public CandleSeries findRange(String market, long from, long to, int limit) {
+        CandleSeries.Builder b = CandleSeries.builder(market, Math.min(limit, batchSize));
+        jdbcTemplate.query(RANGE_SQL, (RowCallbackHandler) rs -> b.add(
+                        rs.getLong(1),
+                        CandleSeries.toScaled(rs.getBigDecimal(2)),
+                        CandleSeries.toScaled(rs.getBigDecimal(3)),
+                        CandleSeries.toScaled(rs.getBigDecimal(4)),
+                        CandleSeries.toScaled(rs.getBigDecimal(5)),
+                        CandleSeries.toScaledVolume(rs.getBigDecimal(6))),
+                market, from, to, limit);
+        return b.build();
+    }
+
+    @Override
+    public List<RollupBucket> findRollups(String market, long intervalMs, long from, long to, int limit) {
+        return jdbcTemplate.query(ROLLUP_SQL, (rs, rowNum) -> new RollupBucket(
+                        rs.getLong("bucket"),
+                        CandleSeries.toScaled(rs.getBigDecimal("open")),
+                        CandleSeries.toScaled(rs.getBigDecimal("high")),
+                        CandleSeries.toScaled(rs.getBigDecimal("low")),
+                        CandleSeries.toScaled(rs.getBigDecimal("close")),
+                        CandleSeries.toScaledVolume(rs.getBigDecimal("volume")),
+                        rs.getLong("last_time"),
+                        CandleSeries.toScaledVolume(rs.getBigDecimal("last_volume"))),
+                intervalMs, market, from, to, limit, market, market);
+    }
+
+    // 한 배치를 기존 행 수 조회 1번 + 다중 행 upsert 1번으로 처리
+    private UpsertResult flush(List<Row> batch) {
+        // MySQL 의 affected rows 로는 "새로 추가"와 "값이 같은 기존 행"을 구분할 수 없어 기존 행 수를 먼저 센다
+        StringBuilder countSql = new StringBuilder("SELECT COUNT(*) FROM candles WHERE (market, open_time) IN (");
+        StringBuilder upsertSql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                countSql.append(", ");
+                upsertSql.append(", ");
+            }
+            countSql.append("(?, ?)");
+            upsertSql.append(INSERT_ROW);
+        }
+        countSql.append(')');
+        upsertSql.append(UPSERT_SUFFIX);
+
+        Integer existing = jdbcTemplate.query(countSql.toString(), ps -> {
+            int p = 1;
+            for (Row r : batch) {
+                ps.setString(p++, r.series().market());
+                ps.setLong(p++, r.series().openTime(r.index()));
+            }
+        }, rs -> rs.next() ? rs.getInt(1) : 0);
+
+        jdbcTemplate.update(upsertSql.toString(), ps -> {
+            int p = 1;
+            for (Row r : batch) {
+                p = bind(ps, p, r.series(), r.index());
+            }
+        });
+
+        int updated = existing == null ? 0 : existing;
+        return new UpsertResult(batch.size() - updated, updated);
+    }
+
+    private static int bind(PreparedStatement ps, int p, CandleSeries s, int i) throws SQLException {
+        ps.setString(p++, s.market());
+        ps.setLong(p++, s.openTime(i));
+        ps.setBigDecimal(p++, CandleSeries.toDecimal(s.open(i)));
+        ps.setBigDecimal(p++, CandleSeries.toDecimal(s.high(i)));
+        ps.setBigDecimal(p++, CandleSeries.toDecimal(s.low(i)));
+        ps.setBigDecimal(p++, CandleSeries.toDecimal(s.close(i)));
+        ps.setBigDecimal(p++, CandleSeries.toDecimalVolume(s.volume(i)));
+        return p;
+    }
+
+    private record Row(CandleSeries series, int index) {
+    }
+}
@@ -1,12 +1,42 @@
 package month.communitybackend.repository;
 
 import month.communitybackend.domain.Comment;
-import month.communitybackend.domain.User;
+import month.communitybackend.dto.CommentDto;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+// 응답에 작성자 이름이 들어가는 조회는 작성자를 함께 읽는다
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByPostId(Long postId);
-    List<Comment> findByAuthor(User author);
+    // 게시글 댓글 목록은 (createdAt, id) 오름차순 keyset 페이지, 엔티티 대신 응답 DTO 로 바로 읽어 영속성 컨텍스트에 쌓이지 않는다
+    String RESPONSE_SELECT = "SELECT new month.communitybackend.dto.CommentDto$Response("
+            + "c.id, c.content, COALESCE(a.username, '탈퇴한 사용자'), c.createdAt)"
+            + " FROM Comment c LEFT JOIN c.author a WHERE c.post.id = :postId";
+    String ORDER = " ORDER BY c.createdAt ASC, c.id ASC";
+
+    @Query(RESPONSE_SELECT + ORDER)
+    List<CommentDto.Response> findPageByPostId(@Param("postId") Long postId, Limit limit);
+
+    @Query(RESPONSE_SELECT + " AND c.createdAt >= :createdAt AND (c.createdAt > :createdAt OR c.id > :id)" + ORDER)
+    List<CommentDto.Response> findPageByPostIdAfter(@Param("postId") Long postId,
+                                                    @Param("createdAt") LocalDateTime createdAt, @Param("id") long id, Limit limit);
+
+    @EntityGraph(attributePaths = "author")
+    Optional<Comment> findWithAuthorById(Long id);
+
+    long countByAuthorId(Long authorId);
+
+    // 탈퇴 처리용, 작성자의 댓글을 limit 개씩 작성자 없음으로 바꾼다 (MySQL UPDATE ... LIMIT)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE comments SET author_id = NULL WHERE author_id = :authorId LIMIT :limit", nativeQuery = true)
+    int detachAuthor(@Param("authorId") Long authorId, @Param("limit") int limit);
 }
@@ -2,11 +2,101 @@ package month.communitybackend.repository;
 
 import month.communitybackend.domain.Post;
 import month.communitybackend.domain.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import month.communitybackend.dto.PostDto;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
-    Page<Post> findByMarket(String market, Pageable pageable);
-    Page<Post> findByAuthor(User user, Pageable pageable);
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 목록은 (createdAt, id) 내림차순 keyset 페이지로만 조회, COUNT 쿼리 없이 limit 개만 읽는다
+// 작성자를 조인한 요약 프로젝션 한 번으로 읽고 본문 LOB 은 읽지 않는다
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
+    String SUMMARY_SELECT = "SELECT new month.communitybackend.dto.PostDto$Summary("
+            + "p.id, p.title, p.excerpt, a.username, p.market, p.createdAt, p.updatedAt,"
+            + " p.commentCount, p.viewCount)"
+            + " FROM Post p LEFT JOIN p.author a";
+    String AFTER = " p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id)";
+    String ORDER = " ORDER BY p.createdAt DESC, p.id DESC";
+
+    // 댓글 작성/삭제 시 컬렉션을 읽지 않고 DB 에서 원자적으로 증감, 반환값 0 이면 게시글 없음
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+    int incrementCommentCount(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :id AND p.commentCount > 0")
+    int decrementCommentCount(@Param("id") Long id);
+
+    // id 구간 안에서 실제 댓글 수와 다른 게시글만 바로잡는다, 바로잡은 행 수 반환
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post = p)"
+            + " WHERE p.id > :fromId AND p.id <= :toId"
+            + " AND p.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.post = p)")
+    int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("SELECT MAX(p.id) FROM Post p")
+    Optional<Long> findMaxId();
+
+    // 탈퇴 처리용, 작성자의 게시글 id 를 limit 개씩 읽고 id 목록으로 작성자를 끊는다 (캐시 무효화에 id 가 필요)
+    @Query("SELECT p.id FROM Post p WHERE p.author.id = :authorId")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.author = NULL WHERE p.id IN :ids")
+    int detachAuthor(@Param("ids") Collection<Long> ids);
+
+    long countByAuthorId(Long authorId);
+
+    @Query("SELECT p.market FROM Post p WHERE p.id = :id")
+    Optional<String> findMarketById(@Param("id") Long id);
+
+    // 인기글처럼 id 목록이 정해진 요약 조회, 순서는 호출한 쪽에서 맞춘다
+    @Query(SUMMARY_SELECT + " WHERE p.id IN :ids")
+    List<PostDto.Summary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // 인기글 순위 복원용, since 이후 작성된 게시글
+    @Query("SELECT new month.communitybackend.repository.PostRepository$HotSeed(p.id, p.market, p.createdAt, p.commentCount)"
+            + " FROM Post p WHERE p.createdAt >= :since")
+    List<HotSeed> findHotSeeds(@Param("since") LocalDateTime since);
+
+    record HotSeed(Long id, String market, LocalDateTime createdAt, long commentCount) {
+    }
+
+    // 단건 조회는 작성자를 함께 읽는다 (응답에 작성자 이름 포함)
+    @EntityGraph(attributePaths = "author")
+    Optional<Post> findWithAuthorById(Long id);
+
+    // 첫 페이지
+    @Query(SUMMARY_SELECT + ORDER)
+    List<PostDto.Summary> findSummaries(Limit limit);
+
+    @Query(SUMMARY_SELECT + " WHERE p.market = :market" + ORDER)
+    List<PostDto.Summary> findSummariesByMarket(@Param("market") String market, Limit limit);
+
+    @Query(SUMMARY_SELECT + " WHERE p.author = :author" + ORDER)
+    List<PostDto.Summary> findSummariesByAuthor(@Param("author") User author, Limit limit);
+
+    // (createdAt, id) 커서 다음 페이지, createdAt <= 조건이 인덱스 범위 탐색의 시작점이 된다
+    @Query(SUMMARY_SELECT + " WHERE" + AFTER + ORDER)
+    List<PostDto.Summary> findSummariesAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") long id, Limit limit);
+
+    @Query(SUMMARY_SELECT + " WHERE p.market = :market AND" + AFTER + ORDER)
+    List<PostDto.Summary> findSummariesByMarketAfter(@Param("market") String market,
+                                                     @Param("createdAt") LocalDateTime createdAt, @Param("id") long id, Limit limit);
+
+    @Query(SUMMARY_SELECT + " WHERE p.author = :author AND" + AFTER + ORDER)
+    List<PostDto.Summary> findSummariesByAuthorAfter(@Param("author") User author,
+                                                     @Param("createdAt") LocalDateTime createdAt, @Param("id") long id, Limit limit);
 }
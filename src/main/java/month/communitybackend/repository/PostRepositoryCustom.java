@@ -0,0 +1,16 @@
+package month.communitybackend.repository;
+
+import month.communitybackend.dto.PostDto;
+
+import java.util.List;
+import java.util.Map;
+
+// MySQL FULLTEXT(ngram) 검색, JDBC 배치 UPDATE 처럼 JPQL 로 표현하기 어려운 게시글 쿼리
+public interface PostRepositoryCustom {
+
+    // 게시글 제목/본문과 댓글 본문을 검색해 관련도순으로 offset 부터 limit 개, market 이 null 이면 전체 마켓
+    List<PostDto.SearchHit> search(String query, String market, int offset, int limit);
+
+    // 게시글별 조회수 증가분을 batchSize 개씩 묶은 배치 UPDATE 로 반영
+    void addViewCounts(Map<Long, Long> deltas, int batchSize);
+}
@@ -0,0 +1,77 @@
+package month.communitybackend.repository;
+
+import month.communitybackend.dto.PostDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+    // 댓글 본문 일치 점수에 곱하는 가중치, 글 자체의 일치가 더 높게 평가되도록 한다
+    private static final double COMMENT_WEIGHT = 0.5;
+
+    // 게시글/댓글 FULLTEXT 인덱스(SchemaInitializer)로 후보와 점수를 구하고 게시글별로 합산한 뒤 상위만 조인
+    private static final String SEARCH_SQL = "SELECT p.id, p.title, p.excerpt, u.username, p.market,"
+            + " p.created_at, p.updated_at, p.comment_count, p.view_count, r.score"
+            + " FROM (SELECT m.post_id, SUM(m.score) AS score FROM ("
+            + "       SELECT id AS post_id, MATCH(title, content) AGAINST (?) AS score"
+            + "       FROM posts WHERE MATCH(title, content) AGAINST (?)"
+            + "       UNION ALL"
+            + "       SELECT post_id, MATCH(content) AGAINST (?) * ? AS score"
+            + "       FROM comments WHERE MATCH(content) AGAINST (?)"
+            + "     ) m GROUP BY m.post_id) r"
+            + " JOIN posts p ON p.id = r.post_id"
+            + " LEFT JOIN users u ON u.id = p.author_id";
+    private static final String MARKET_FILTER = " WHERE p.market = ?";
+    private static final String ORDER_PAGE = " ORDER BY r.score DESC, p.id DESC LIMIT ? OFFSET ?";
+    private static final String ADD_VIEWS_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private static final RowMapper<PostDto.SearchHit> HIT = (rs, rowNum) -> PostDto.SearchHit.builder()
+            .post(new PostDto.Summary(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("excerpt"),
+                    rs.getString("username"),
+                    rs.getString("market"),
+                    toLocalDateTime(rs.getTimestamp("created_at")),
+                    toLocalDateTime(rs.getTimestamp("updated_at")),
+                    rs.getLong("comment_count"),
+                    rs.getLong("view_count")))
+            .score(rs.getDouble("score"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<PostDto.SearchHit> search(String query, String market, int offset, int limit) {
+        List<Object> args = new ArrayList<>(List.of(query, query, query, COMMENT_WEIGHT, query));
+        String sql = SEARCH_SQL;
+        if (market != null) {
+            sql += MARKET_FILTER;
+            args.add(market);
+        }
+        args.add(limit);
+        args.add(offset);
+        return jdbcTemplate.query(sql + ORDER_PAGE, HIT, args.toArray());
+    }
+
+    @Override
+    public void addViewCounts(Map<Long, Long> deltas, int batchSize) {
+        jdbcTemplate.batchUpdate(ADD_VIEWS_SQL, deltas.entrySet(), batchSize, (ps, e) -> {
+            ps.setLong(1, e.getValue());
+            ps.setLong(2, e.getKey());
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp ts) {
+        return ts == null ? null : ts.toLocalDateTime();
+    }
+}
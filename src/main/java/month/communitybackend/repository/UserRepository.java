@@ -1,12 +1,19 @@
 package month.communitybackend.repository;
 
 import month.communitybackend.domain.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+    // 권한까지 조인해 한 번에 조회, 로그인과 현재 사용자 스냅샷 생성에서 사용
+    @EntityGraph(attributePaths = "roles")
+    Optional<User> findWithRolesByUsername(String username);
     boolean existsByUsername(String username);
     boolean existsByNickname(String nickname);
+    // 탈퇴 처리 중인 사용자, 재시작 시 비동기 작업을 이어서 진행
+    List<User> findByDeletedTrue();
 }
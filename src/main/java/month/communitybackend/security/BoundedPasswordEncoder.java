@@ -0,0 +1,165 @@
+package month.communitybackend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해싱을 요청 스레드가 아닌 전용 고정 크기 스레드 풀에서 실행하는 PasswordEncoder.
+ * 대기 큐(queue-capacity)가 가득 차면 기다리지 않고 PasswordHashingBusyException(503, Retry-After)으로 거절한다.
+ * 로그인은 커넥션을 쥔 채(open-in-view) 해싱을 기다리므로 threads + queue-capacity 는 Hikari 풀보다 작아야 하고, 시작 시 확인한다.
+ * target-ms 가 0 보다 크면 시작 시 해싱 시간을 재서 그 안에 드는 가장 높은 cost 를 고른다.
+ */
+@Slf4j
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 16;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(
+            MeterRegistry registry,
+            DataSource dataSource,
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.target-ms:0}") long targetMs,
+            @Value("${security.password.threads:0}") int threads,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        int cost = targetMs > 0 ? calibrate(targetMs) : strength;
+        this.delegate = new BCryptPasswordEncoder(cost);
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        int poolSize = poolSize(dataSource, threads, queueCapacity);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hash.latency").tag("op", "encode").register(registry);
+        this.matchesTimer = Timer.builder("password.hash.latency").tag("op", "matches").register(registry);
+        this.queueWait = Timer.builder("password.hash.queue.wait").register(registry);
+        this.rejected = Counter.builder("password.hash.rejected").register(registry);
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder("password.hash.strength", () -> cost).register(registry);
+        log.info("비밀번호 해싱 설정: bcrypt cost={}, threads={}, queue={}", cost, poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 풀에 넣고 결과를 기다린다, 큐가 가득 차면 바로 거절
+    private <T> T submit(Callable<T> task) {
+        long enqueued = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - enqueued, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("비밀번호 해싱 실패", e.getCause());
+        }
+    }
+
+    // threads 가 0 이면 CPU 수를 커넥션 풀 안에 들도록 줄이고, 지정값이 풀을 넘으면 시작을 막는다
+    private static int poolSize(DataSource dataSource, int threads, int queueCapacity) {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return threads > 0 ? threads : cpus;
+        }
+        int maxThreads = hikari.getMaximumPoolSize() - queueCapacity - 1;
+        if (threads > maxThreads || maxThreads < 1) {
+            throw new IllegalStateException("security.password.threads(" + threads + ") + queue-capacity("
+                    + queueCapacity + ") 는 hikari maximum-pool-size(" + hikari.getMaximumPoolSize() + ") 보다 작아야 합니다.");
+        }
+        return threads > 0 ? threads : Math.min(cpus, maxThreads);
+    }
+
+    // cost 가 1 오를 때마다 해싱 시간이 약 두 배가 되므로 낮은 cost 부터 재며 targetMs 안에 드는 가장 높은 값을 고른다
+    private static int calibrate(long targetMs) {
+        // 첫 측정이 JIT 워밍업 시간으로 부풀지 않도록 미리 몇 번 돌린다
+        BCryptPasswordEncoder warmup = new BCryptPasswordEncoder(MIN_STRENGTH);
+        for (int i = 0; i < 10; i++) {
+            warmup.encode(CALIBRATION_PASSWORD);
+        }
+        int chosen = MIN_STRENGTH;
+        for (int cost = MIN_STRENGTH; cost <= MAX_STRENGTH; cost++) {
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(cost).encode(CALIBRATION_PASSWORD);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsedMs > targetMs) {
+                break;
+            }
+            chosen = cost;
+            // 다음 cost 가 목표를 넘을 게 확실하면 재지 않는다
+            if (elapsedMs * 2 > targetMs) {
+                break;
+            }
+        }
+        log.info("bcrypt cost 보정: target={}ms, cost={}", targetMs, chosen);
+        return chosen;
+    }
+}
@@ -24,7 +24,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username)
             throws UsernameNotFoundException {
-        User user = userRepo.findByUsername(username)
+        User user = userRepo.findWithRolesByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자 없음: " + username));
 
 
@@ -32,9 +32,14 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .map(role -> new SimpleGrantedAuthority(role.getName()))
                 .collect(Collectors.toList());
 
+        // 탈퇴 처리 중인 사용자는 비활성 계정으로 로그인 거부
         return new org.springframework.security.core.userdetails.User(
                 user.getUsername(),
                 user.getPassword(),
+                !user.isDeleted(),
+                true,
+                true,
+                true,
                 authorities
         );
     }
@@ -5,6 +5,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import month.communitybackend.service.CurrentUserService;
+
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -18,10 +20,12 @@ import java.util.stream.Collectors;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokens;
+    private final CurrentUserService currentUser;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
-        this.tokenProvider = tokenProvider;
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokens, CurrentUserService currentUser) {
+        this.verifiedTokens = verifiedTokens;
+        this.currentUser = currentUser;
     }
 
     @Override
@@ -39,18 +43,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            if (tokenProvider.validateToken(token)) {
-                // 토큰이 유효하다면 사용자명과 권한 리스트를 꺼내서 Authentication 객체 생성
-                String username = tokenProvider.getUsername(token);
-                List<GrantedAuthority> authorities = tokenProvider.getRoles(token).stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-                Authentication auth = new UsernamePasswordAuthenticationToken(
-                        username, null, authorities
-                );
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            }
+            // 이미 검증한 토큰은 캐시된 결과를, 처음 보는 토큰은 한 번의 파싱으로 서명 검증과 클레임 추출
+            verifiedTokens.verify(token)
+                    // 탈퇴했거나 탈퇴 처리 중인 사용자의 토큰은 만료 전이라도 인증하지 않는다 (스냅샷 캐시로 확인)
+                    .filter(principal -> currentUser.find(principal.username()).isPresent())
+                    .ifPresent(principal -> {
+                        // 토큰이 유효하다면 사용자명과 권한 리스트로 Authentication 객체 생성
+                        List<GrantedAuthority> authorities = principal.roles().stream()
+                                .map(SimpleGrantedAuthority::new)
+                                .collect(Collectors.toList());
+
+                        Authentication auth = new UsernamePasswordAuthenticationToken(
+                                principal.username(), null, authorities
+                        );
+                        SecurityContextHolder.getContext().setAuthentication(auth);
+                    });
         }
 
         chain.doFilter(request, response);
@@ -0,0 +1,11 @@
+package month.communitybackend.security;
+
+import java.time.Instant;
+import java.util.List;
+
+// 서명 검증을 마친 AccessToken 의 내용, 요청마다 한 번 파싱해 필터에서 그대로 사용
+public record JwtPrincipal(String username, List<String> roles, Instant expiresAt) {
+    public JwtPrincipal {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+}
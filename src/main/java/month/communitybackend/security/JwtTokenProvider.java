@@ -2,6 +2,7 @@ package month.communitybackend.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,10 +13,13 @@ import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
     private final Key key;
+    // 서명 키가 고정이므로 파서를 한 번만 만들어 공유 (스레드 안전)
+    private final JwtParser parser;
     private final long validityInMs;
     private final long refreshValidityInMs;
 
@@ -25,6 +29,7 @@ public class JwtTokenProvider {
             @Value("${jwt.refresh-expiration}") long refreshValidityInMs
     ) {
         this.key = Keys.hmacShaKeyFor(Base64.getEncoder().encode(secret.getBytes()));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.validityInMs = validityInMs;
         this.refreshValidityInMs = refreshValidityInMs;
     }
@@ -55,19 +60,25 @@ public class JwtTokenProvider {
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
-    // AccessToken 검증
-    public boolean validateToken(String token) {
+    // AccessToken 을 한 번만 파싱/검증해 사용자명, 권한, 만료 시각을 꺼낸다. 유효하지 않으면 empty
+    @SuppressWarnings("unchecked")
+    public Optional<JwtPrincipal> parse(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            List<String> roles = (List<String>) claims.get("roles");
+            // roles 가 없는 토큰(RefreshToken)으로는 인증하지 않는다
+            if (roles == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new JwtPrincipal(claims.getSubject(), roles, claims.getExpiration().toInstant()));
+        } catch (JwtException | IllegalArgumentException | ClassCastException e) {
+            return Optional.empty();
         }
     }
     // RefreshToken 검증
     public boolean validateRefreshToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -75,13 +86,6 @@ public class JwtTokenProvider {
     }
     // JWT token 에서 사용자 ID 추출
     public String getUsername(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
-    }
-    // JWT token 에서 사용자 권한 추출
-    @SuppressWarnings("unchecked")
-    public List<String> getRoles(String token) {
-        return (List<String>) Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().get("roles");
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 }
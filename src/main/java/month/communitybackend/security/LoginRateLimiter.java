@@ -0,0 +1,170 @@
+package month.communitybackend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그인 시도 제한기. 사용자명별, 클라이언트 IP 별로 슬라이딩 윈도우 카운터를 메모리에 둔다.
+ * AuthController 의 로그인 엔드포인트가 AuthService.login(DB 조회와 BCrypt 검증) 전에 호출해 한도를 넘은 시도를 429 로 바로 거절한다.
+ * 키는 해시로 나눈 stripe 마다 락 하나와 LRU 맵을 두어 경합을 줄이고, stripe 당 키 수를 제한해 메모리를 묶는다.
+ * 슬라이딩 윈도우는 직전 윈도우 횟수를 지난 비율만큼 줄여 현재 윈도우 횟수에 더하는 근사 방식이다.
+ * Retry-After 는 이 추정치가 다시 한도 안으로 내려오는 시점까지의 시간이다.
+ * 비교는 부동소수 반올림으로 경계가 어긋나지 않도록 windowMs 를 곱한 정수로 한다.
+ */
+@Component
+public class LoginRateLimiter {
+    private static final int STRIPES = 64;
+
+    private final Clock clock;
+    private final long windowMs;
+    private final int usernameLimit;
+    private final int ipLimit;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    private final Counter rejectedByUsername;
+    private final Counter rejectedByIp;
+
+    @Autowired
+    public LoginRateLimiter(
+            MeterRegistry registry,
+            @Value("${security.login.window-ms:60000}") long windowMs,
+            @Value("${security.login.username-limit:10}") int usernameLimit,
+            @Value("${security.login.ip-limit:50}") int ipLimit,
+            @Value("${security.login.max-keys:100000}") int maxKeys
+    ) {
+        this(registry, Clock.systemUTC(), windowMs, usernameLimit, ipLimit, maxKeys);
+    }
+
+    LoginRateLimiter(MeterRegistry registry, Clock clock, long windowMs, int usernameLimit, int ipLimit, int maxKeys) {
+        this.clock = clock;
+        this.windowMs = windowMs;
+        this.usernameLimit = usernameLimit;
+        this.ipLimit = ipLimit;
+        int perStripe = Math.max(1, maxKeys / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.rejectedByUsername = Counter.builder("auth.login.rejected").tag("key", "username").register(registry);
+        this.rejectedByIp = Counter.builder("auth.login.rejected").tag("key", "ip").register(registry);
+    }
+
+    // 시도 한 번을 기록, IP 나 사용자명 중 하나라도 한도를 넘으면 LoginRateLimitedException
+    public void check(String username, String clientIp) {
+        long now = clock.millis();
+        if (clientIp != null) {
+            long wait = acquire("ip:" + clientIp, ipLimit, now);
+            if (wait > 0) {
+                rejectedByIp.increment();
+                throw new LoginRateLimitedException(toSeconds(wait));
+            }
+        }
+        if (username != null) {
+            long wait = acquire("u:" + username.toLowerCase(Locale.ROOT), usernameLimit, now);
+            if (wait > 0) {
+                rejectedByUsername.increment();
+                throw new LoginRateLimitedException(toSeconds(wait));
+            }
+        }
+    }
+
+    // 로그인에 성공하면 그 사용자명의 실패 누적을 비운다 (IP 카운터는 유지)
+    public void onSuccess(String username) {
+        String key = "u:" + username.toLowerCase(Locale.ROOT);
+        Stripe s = stripeOf(key);
+        s.lock.lock();
+        try {
+            s.windows.remove(key);
+        } finally {
+            s.lock.unlock();
+        }
+    }
+
+    // 허용되면 횟수를 올리고 0, 거절되면 다시 허용될 때까지 남은 ms
+    private long acquire(String key, int limit, long now) {
+        long index = now / windowMs;
+        long pos = now % windowMs;
+        Stripe s = stripeOf(key);
+        s.lock.lock();
+        try {
+            Window w = s.windows.computeIfAbsent(key, k -> new Window(index));
+            w.roll(index);
+            // previous * (1 - pos / windowMs) + current + 1 > limit 를 windowMs 배 해서 비교
+            if (w.previous * (windowMs - pos) + (w.current + 1L) * windowMs > limit * windowMs) {
+                return waitMs(w, limit, pos);
+            }
+            w.current++;
+            return 0;
+        } finally {
+            s.lock.unlock();
+        }
+    }
+
+    // 현재 윈도우 안에서 직전 횟수가 줄어 자리가 나면 그때까지, 현재 횟수만으로 한도면 다음 윈도우에서 이 횟수가 줄어들 때까지
+    private long waitMs(Window w, int limit, long pos) {
+        if (w.current + 1 <= limit) {
+            return Math.max(1, openAt(w.previous, limit - 1 - w.current) - pos);
+        }
+        return windowMs - pos + openAt(w.current, limit - 1);
+    }
+
+    // 직전 윈도우 previous 회가 줄어 추정치에 room 회 여유가 생기는 윈도우 안 위치(ms)
+    private long openAt(int previous, int room) {
+        if (previous == 0) {
+            return 0;
+        }
+        // previous * (windowMs - pos) <= room * windowMs 를 만족하는 가장 작은 pos
+        return windowMs - (long) room * windowMs / previous;
+    }
+
+    private Stripe stripeOf(String key) {
+        return stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static long toSeconds(long ms) {
+        return Math.max(1, (ms + 999) / 1000);
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        // 접근 순서 LRU, 가장 오래 안 쓰인 키부터 버린다
+        private final Map<String, Window> windows;
+
+        Stripe(int capacity) {
+            this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+
+    private static final class Window {
+        private long index;
+        private int previous;
+        private int current;
+
+        Window(long index) {
+            this.index = index;
+        }
+
+        // 윈도우가 바뀌었으면 현재 횟수를 직전으로 넘기고, 두 칸 이상 지났으면 모두 비운다
+        void roll(long now) {
+            if (now == index) {
+                return;
+            }
+            previous = now == index + 1 ? current : 0;
+            current = 0;
+            index = now;
+        }
+    }
+}
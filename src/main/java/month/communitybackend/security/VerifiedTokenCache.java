@@ -0,0 +1,74 @@
+package month.communitybackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 서명 검증을 마친 AccessToken 의 JwtPrincipal 을 보관하는 캐시.
+ * 같은 토큰이 만료 전까지 매 요청마다 다시 오므로 토큰의 SHA-256 다이제스트를 키로 검증 결과를 재사용한다.
+ * 항목은 토큰의 exp 시각에 만료되어 만료된 토큰이 캐시로 통과되는 일은 없고, 검증에 실패한 토큰은 담지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final String CACHE_NAME = "jwt.verified";
+
+    private final JwtTokenProvider tokenProvider;
+    private final Cache<String, JwtPrincipal> cache;
+
+    public VerifiedTokenCache(
+            JwtTokenProvider tokenProvider,
+            MeterRegistry registry,
+            @Value("${jwt.cache.max-entries:100000}") long maxEntries
+    ) {
+        this.tokenProvider = tokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(Expiry.creating((String digest, JwtPrincipal p) -> untilExpiry(p)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+    }
+
+    // 캐시에 있으면 그대로, 없으면 JwtTokenProvider 로 검증해 유효한 경우만 보관
+    public Optional<JwtPrincipal> verify(String token) {
+        String digest = digest(token);
+        JwtPrincipal cached = cache.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<JwtPrincipal> parsed = tokenProvider.parse(token);
+        parsed.ifPresent(p -> cache.put(digest, p));
+        return parsed;
+    }
+
+    private static Duration untilExpiry(JwtPrincipal p) {
+        Duration left = Duration.between(Instant.now(), p.expiresAt());
+        return left.isNegative() ? Duration.ZERO : left;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import month.communitybackend.repository.RefreshTokenRepository;
 import month.communitybackend.repository.RoleRepository;
 import month.communitybackend.repository.UserRepository;
 import month.communitybackend.security.JwtTokenProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
@@ -19,6 +20,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,49 +40,57 @@ public class AuthService {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final EmailService emailService;
     private final RefreshTokenRepository refreshTokenRepository;
+    // BCrypt 해싱은 트랜잭션 밖에서 하고 DB 작업만 짧은 트랜잭션으로 묶는다
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher events;
 
-    @Transactional
     // 회원 가입 요청
     public User register(UserDto.signupRequest requestDto) {
         if (userRepository.existsByUsername(requestDto.getUsername())) {
             throw new IllegalArgumentException("이미 사용 중인 사용자 이름입니다.");
         }
-        // 사용자의 권한확인, 추후 관리자 등록도 고려하여 설계
-        Role userRole = roleRepository.findByName("ROLE_USER")
-                .orElseThrow(() -> new RuntimeException("권한이 없는 사용자 입니다."));
-
-        User user = User.builder()
-                .username(requestDto.getUsername())
-                .password(passwordEncoder.encode(requestDto.getPassword()))
-                .email(requestDto.getEmail())
-                .build();
-        user.getRoles().add(userRole);
-
-        return userRepository.save(user);
+        String encoded = passwordEncoder.encode(requestDto.getPassword());
+
+        return tx.execute(s -> {
+            // 사용자의 권한확인, 추후 관리자 등록도 고려하여 설계
+            Role userRole = roleRepository.findByName("ROLE_USER")
+                    .orElseThrow(() -> new RuntimeException("권한이 없는 사용자 입니다."));
+
+            User user = User.builder()
+                    .username(requestDto.getUsername())
+                    .password(encoded)
+                    .email(requestDto.getEmail())
+                    .build();
+            user.getRoles().add(userRole);
+
+            // 같은 이름으로 캐시된 "없음" 스냅샷을 커밋 후 비운다
+            events.publishEvent(new UserChangedEvent(user.getUsername()));
+            return userRepository.save(user);
+        });
     }
 
-    @Transactional
     // 로그인 요청
     public Map<String, String> login(String username, String password) {
         // username과 password를 기반으로 AuthenticationToken 객체 생성
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(username, password);
 
+        // 비밀번호 검증(BCrypt)은 트랜잭션 밖에서
         Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
 
-        // 인증 정보를 기반으로 JWT 토큰 생성
-        User user = findByUsername(username);
-
         // Access Token, Refresh Token 생성
         String accessToken = tokenProvider.createToken(authentication.getName(), authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority).collect(Collectors.toList()));
         String refreshToken = tokenProvider.createRefreshToken(authentication.getName());
 
         // Refresh Token 저장 또는 업데이트
-        refreshTokenRepository.findByUser(user).ifPresentOrElse(
-                refreshTokenEntity -> refreshTokenEntity.update(refreshToken),
-                () -> refreshTokenRepository.save(new RefreshToken(user, refreshToken))
-        );
+        tx.executeWithoutResult(s -> {
+            User user = findByUsername(username);
+            refreshTokenRepository.findByUser(user).ifPresentOrElse(
+                    refreshTokenEntity -> refreshTokenEntity.update(refreshToken),
+                    () -> refreshTokenRepository.save(new RefreshToken(user, refreshToken))
+            );
+        });
 
         return Map.of("accessToken", accessToken, "refreshToken", refreshToken);
     }
@@ -152,8 +162,23 @@ public class AuthService {
     }
 
     // 비밀번호 재설정 완료
-    @Transactional
     public void resetPassword(String token, String newPassword) {
+        // 유효하지 않은 토큰으로 해싱 CPU 를 쓰지 않도록 먼저 확인
+        tx.executeWithoutResult(s -> validResetToken(token));
+        String encoded = passwordEncoder.encode(newPassword); // 새 비밀번호 인코딩은 트랜잭션 밖에서
+
+        tx.executeWithoutResult(s -> {
+            // 해싱 중에 같은 토큰이 먼저 쓰였을 수 있어 다시 확인
+            PasswordResetToken resetToken = validResetToken(token);
+            User user = resetToken.getUser();
+            user.setPassword(encoded);
+            userRepository.save(user);
+
+            passwordResetTokenRepository.delete(resetToken); // 사용된 토큰 삭제
+        });
+    }
+
+    private PasswordResetToken validResetToken(String token) {
         PasswordResetToken resetToken = passwordResetTokenRepository.findByToken(token)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않거나 만료된 토큰입니다."));
 
@@ -161,12 +186,7 @@ public class AuthService {
             passwordResetTokenRepository.delete(resetToken); // 만료된 토큰 삭제
             throw new IllegalArgumentException("만료된 토큰입니다.");
         }
-
-        User user = resetToken.getUser();
-        user.setPassword(passwordEncoder.encode(newPassword)); // 새 비밀번호 인코딩 후 저장
-        userRepository.save(user);
-
-        passwordResetTokenRepository.delete(resetToken); // 사용된 토큰 삭제
+        return resetToken;
     }
 }
 
@@ -0,0 +1,111 @@
+package month.communitybackend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import month.communitybackend.domain.User;
+import month.communitybackend.repository.CommentRepository;
+import month.communitybackend.repository.PostRepository;
+import month.communitybackend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 탈퇴한 사용자의 게시글/댓글에서 작성자를 끊는 집합 단위 UPDATE 작업.
+ * chunk 개씩 나눠 실행해 트랜잭션 크기와 잠금 시간을 일정하게 유지한다.
+ * 글이 많은 사용자는 커밋 후 가상 스레드에서 청크마다 별도 트랜잭션으로 처리하고, 끝나면 사용자 행을 지운다.
+ * 실패한 작업은 사용자가 deleted 로 남아 있으므로 UserDeletionScheduler 가 주기적으로 다시 시작한다.
+ * 같은 사용자의 작업은 인스턴스 안에서 하나만 돌고, 여러 인스턴스가 겹쳐 돌아도 UPDATE/DELETE 가 멱등이라 결과는 같다.
+ */
+@Slf4j
+@Component
+public class AuthorDetachJob {
+    private final PostRepository postRepo;
+    private final CommentRepository commentRepo;
+    private final UserRepository userRepo;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate tx;
+    private final int chunk;
+    // 이 인스턴스에서 진행 중인 사용자 id
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public AuthorDetachJob(
+            PostRepository postRepo,
+            CommentRepository commentRepo,
+            UserRepository userRepo,
+            ApplicationEventPublisher events,
+            PlatformTransactionManager txManager,
+            @Value("${user.deletion.chunk-size:500}") int chunk
+    ) {
+        this.postRepo = postRepo;
+        this.commentRepo = commentRepo;
+        this.userRepo = userRepo;
+        this.events = events;
+        this.tx = new TransactionTemplate(txManager);
+        this.chunk = chunk;
+    }
+
+    // 현재 트랜잭션 안에서 모두 처리, 글/댓글이 적은 사용자의 탈퇴에서 사용
+    public void detachAll(Long userId) {
+        while (detachChunk(userId)) {
+            // 남은 행이 없을 때까지 반복
+        }
+    }
+
+    @TransactionalEventListener
+    public void onDeletionRequested(UserDeletionRequestedEvent event) {
+        start(event.userId());
+    }
+
+    // 실패했거나 재시작 전에 끝나지 않은 탈퇴 작업을 다시 시작, 진행 중인 사용자는 건너뛴다
+    public void resume() {
+        List<User> pending = userRepo.findByDeletedTrue();
+        pending.forEach(u -> start(u.getId()));
+    }
+
+    private void start(Long userId) {
+        if (!running.add(userId)) {
+            return;
+        }
+        Thread.ofVirtual().name("user-deletion-" + userId).start(() -> {
+            try {
+                run(userId);
+            } finally {
+                running.remove(userId);
+            }
+        });
+    }
+
+    private void run(Long userId) {
+        try {
+            int chunks = 0;
+            while (Boolean.TRUE.equals(tx.execute(s -> detachChunk(userId)))) {
+                chunks++;
+            }
+            tx.executeWithoutResult(s -> userRepo.findById(userId).ifPresent(userRepo::delete));
+            log.info("사용자 탈퇴 처리 완료: userId={}, chunks={}", userId, chunks);
+        } catch (RuntimeException e) {
+            // 사용자는 deleted 상태로 남아 다음 resume 주기에 다시 처리된다
+            log.warn("사용자 탈퇴 처리 실패: userId={}, cause={}", userId, e.toString());
+        }
+    }
+
+    // 게시글 chunk 개, 게시글이 없으면 댓글 chunk 개의 작성자를 끊는다. 처리한 행이 있으면 true
+    private boolean detachChunk(Long userId) {
+        List<Long> postIds = postRepo.findIdsByAuthorId(userId, Limit.of(chunk));
+        if (!postIds.isEmpty()) {
+            postRepo.detachAuthor(postIds);
+            // 캐시된 게시글 응답의 작성자 이름도 바뀌므로 무효화
+            events.publishEvent(new PostChangedEvent(postIds));
+            return true;
+        }
+        return commentRepo.detachAuthor(userId, chunk) > 0;
+    }
+}
@@ -0,0 +1,184 @@
+package month.communitybackend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import month.communitybackend.domain.CandleBackfillCheckpoint;
+import month.communitybackend.dto.CandleBackfillDto;
+import month.communitybackend.dto.CandleSeries;
+import month.communitybackend.repository.CandleBackfillCheckpointRepository;
+import month.communitybackend.repository.CandleRepository;
+import month.communitybackend.repository.CandleRepositoryCustom.UpsertResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업비트 1분봉 이력을 과거 방향으로 거슬러 올라가며 채우는 백필 작업.
+ * 요청 간격으로 초당 요청 수를 제한하고, 페이지마다 마켓별 체크포인트를 저장해 재시작 후 이어서 진행한다.
+ */
+@Slf4j
+@Service
+public class CandleBackfillService {
+    private static final int UNIT = 1;
+    // 이 페이지 수마다 진행 상황을 로그로 남긴다
+    private static final int LOG_EVERY_PAGES = 50;
+    // 429 응답을 받았을 때 재시도 전 대기 시간
+    private static final Duration RATE_LIMITED_BACKOFF = Duration.ofSeconds(1);
+
+    private final CandleService candleService;
+    private final CandleRepository candleRepo;
+    private final CandleBackfillCheckpointRepository checkpointRepo;
+    private final Duration history;
+    private final long minRequestIntervalNanos;
+    private final long targetCandlesPerSecond;
+
+    private final Map<String, CandleBackfillDto.Status> progress = new ConcurrentHashMap<>();
+    private long lastRequestNanos;
+
+    public CandleBackfillService(
+            CandleService candleService,
+            CandleRepository candleRepo,
+            CandleBackfillCheckpointRepository checkpointRepo,
+            @Value("${candle.backfill.days:30}") long days,
+            @Value("${candle.backfill.requests-per-second:8}") double requestsPerSecond,
+            @Value("${candle.backfill.target-candles-per-second:1500}") long targetCandlesPerSecond
+    ) {
+        this.candleService = candleService;
+        this.candleRepo = candleRepo;
+        this.checkpointRepo = checkpointRepo;
+        this.history = Duration.ofDays(days);
+        this.minRequestIntervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+        this.targetCandlesPerSecond = targetCandlesPerSecond;
+    }
+
+    // 마켓을 하나씩 차례로 백필, 업비트 요청 제한을 마켓 간에 나눠 쓰지 않도록 순차 실행
+    public void runAll(List<String> markets) {
+        for (String market : markets) {
+            try {
+                run(market);
+            } catch (RuntimeException e) {
+                log.warn("캔들 백필 중단: market={}, cause={}", market, e.toString());
+                progress.computeIfPresent(market, (m, s) -> {
+                    s.setRunning(false);
+                    return s;
+                });
+            }
+        }
+    }
+
+    // 체크포인트부터 목표 시각까지 200개씩 과거로 내려가며 저장
+    public CandleBackfillDto.Status run(String market) {
+        CandleBackfillCheckpoint cp = checkpointRepo.findById(market).orElseGet(() -> newCheckpoint(market));
+        CandleBackfillDto.Status status = status(cp, 0, true);
+        progress.put(market, status);
+
+        long startedNanos = System.nanoTime();
+        long written = 0;
+        int pages = 0;
+        while (!cp.isCompleted()) {
+            CandleSeries page = fetchPage(market, cp.getOldestOpenTime());
+            CandleSeries kept = keepFrom(page, cp.getTargetOpenTime());
+
+            UpsertResult result = kept.isEmpty() ? UpsertResult.EMPTY : candleRepo.upsertAll(List.of(kept));
+            written += result.inserted();
+
+            // 더 과거가 없거나 목표 시각에 도달했거나 더 내려가지 못하면 완료
+            long before = cp.getOldestOpenTime();
+            long pageOldest = page.isEmpty() ? before : page.openTime(page.size() - 1);
+            boolean exhausted = page.size() < CandleService.MAX_COUNT
+                    || kept.size() < page.size()
+                    || pageOldest >= before;
+            cp.setOldestOpenTime(Math.min(before, pageOldest));
+            cp.setCandlesWritten(cp.getCandlesWritten() + result.inserted());
+            cp.setCompleted(exhausted);
+            cp = checkpointRepo.save(cp);
+
+            double rate = written / Math.max(1e-9, (System.nanoTime() - startedNanos) / 1e9);
+            status = status(cp, rate, !cp.isCompleted());
+            progress.put(market, status);
+            if (++pages % LOG_EVERY_PAGES == 0 || cp.isCompleted()) {
+                log.info("캔들 백필 진행: market={}, oldest={}, written={}, rate={}/s (목표 {}/s), completed={}",
+                        market, Instant.ofEpochMilli(cp.getOldestOpenTime()), cp.getCandlesWritten(),
+                        Math.round(rate), targetCandlesPerSecond, cp.isCompleted());
+            }
+        }
+        if (written > 0) {
+            candleService.refreshCaches(market);
+        }
+        status.setRunning(false);
+        return status;
+    }
+
+    public List<CandleBackfillDto.Status> getProgress() {
+        return List.copyOf(progress.values());
+    }
+
+    private CandleBackfillCheckpoint newCheckpoint(String market) {
+        long now = System.currentTimeMillis();
+        // 이미 저장된 가장 오래된 봉부터 과거로 내려간다
+        long start = candleRepo.findFirstByIdMarketOrderByIdOpenTimeAsc(market)
+                .map(c -> c.getId().getOpenTime())
+                .orElse(now);
+        return CandleBackfillCheckpoint.builder()
+                .market(market)
+                .oldestOpenTime(start)
+                .targetOpenTime(now - history.toMillis())
+                .build();
+    }
+
+    private CandleSeries fetchPage(String market, long before) {
+        while (true) {
+            throttle();
+            try {
+                return candleService.fetchFromUpbit(market, UNIT, CandleService.MAX_COUNT, Instant.ofEpochMilli(before));
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                sleep(RATE_LIMITED_BACKOFF.toNanos());
+            }
+        }
+    }
+
+    // 요청 사이 간격을 1/requests-per-second 초 이상으로 유지
+    private synchronized void throttle() {
+        long wait = lastRequestNanos + minRequestIntervalNanos - System.nanoTime();
+        if (wait > 0) {
+            sleep(wait);
+        }
+        lastRequestNanos = System.nanoTime();
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("캔들 백필이 중단되었습니다.", e);
+        }
+    }
+
+    // 최신순 page 에서 target(포함) 이후 봉만 남긴다
+    private static CandleSeries keepFrom(CandleSeries page, long target) {
+        CandleSeries.Builder b = CandleSeries.builder(page.market(), page.size());
+        for (int i = 0; i < page.size() && page.openTime(i) >= target; i++) {
+            b.add(page.openTime(i), page.open(i), page.high(i), page.low(i), page.close(i), page.volume(i));
+        }
+        return b.build();
+    }
+
+    private CandleBackfillDto.Status status(CandleBackfillCheckpoint cp, double rate, boolean running) {
+        return CandleBackfillDto.Status.builder()
+                .market(cp.getMarket())
+                .oldestOpenTime(cp.getOldestOpenTime())
+                .targetOpenTime(cp.getTargetOpenTime())
+                .candlesWritten(cp.getCandlesWritten())
+                .candlesPerSecond(rate)
+                .targetCandlesPerSecond(targetCandlesPerSecond)
+                .completed(cp.isCompleted())
+                .running(running)
+                .build();
+    }
+}
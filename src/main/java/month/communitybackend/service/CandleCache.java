@@ -0,0 +1,219 @@
+package month.communitybackend.service;
+
+import month.communitybackend.dto.CandleSeries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 마켓별 최근 캔들을 고정 크기 링 버퍼에 보관하는 인메모리 저장소.
+ * CandleScheduler 가 수집한 캔들로 채워지고, CandleService.getRecent 가 DB 보다 먼저 조회한다.
+ */
+@Component
+public class CandleCache {
+    private final int capacity;
+    private final ConcurrentMap<String, RingBuffer> buffers = new ConcurrentHashMap<>();
+
+    public CandleCache(@Value("${candle.cache.capacity:500}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("candle.cache.capacity 는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    // 캔들을 버퍼에 반영, 같은 openTime 은 최신 값으로 덮어쓴다
+    public void putAll(CandleSeries series) {
+        if (series.isEmpty()) {
+            return;
+        }
+        buffer(series.market()).putAll(series);
+    }
+
+    // DB 에서 읽어온 캔들로 버퍼를 채운다, capacity 보다 적게 읽혔다면 DB 의 전체 이력을 가진 것으로 표시
+    public void warm(CandleSeries series) {
+        RingBuffer buf = buffer(series.market());
+        buf.putAll(series);
+        if (series.size() < capacity) {
+            buf.markComplete();
+        }
+    }
+
+    // 최신순 limit 개 조회, 버퍼만으로 응답할 수 없으면 empty (DB 조회 필요)
+    public Optional<CandleSeries> getRecent(String market, int limit) {
+        RingBuffer buf = buffers.get(market);
+        if (buf == null || limit > capacity) {
+            return Optional.empty();
+        }
+        return buf.newest(market, limit);
+    }
+
+    // 버퍼에 있는 가장 최신 봉의 시각
+    public OptionalLong latestOpenTime(String market) {
+        RingBuffer buf = buffers.get(market);
+        return buf == null ? OptionalLong.empty() : buf.latestOpenTime();
+    }
+
+    public void invalidate(String market) {
+        buffers.remove(market);
+    }
+
+    private RingBuffer buffer(String market) {
+        return buffers.computeIfAbsent(market, m -> new RingBuffer(capacity));
+    }
+
+    /** openTime 오름차순으로 정렬된 컬럼별 원형 배열, 가장 오래된 캔들부터 덮어쓴다. */
+    private static final class RingBuffer {
+        private final int capacity;
+        private final long[] openTime;
+        private final long[] open;
+        private final long[] high;
+        private final long[] low;
+        private final long[] close;
+        private final long[] volume;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private int head;         // 가장 오래된 캔들 위치
+        private int size;
+        private boolean complete; // DB 에 이 버퍼보다 오래된 캔들이 없음
+
+        RingBuffer(int capacity) {
+            this.capacity = capacity;
+            this.openTime = new long[capacity];
+            this.open = new long[capacity];
+            this.high = new long[capacity];
+            this.low = new long[capacity];
+            this.close = new long[capacity];
+            this.volume = new long[capacity];
+        }
+
+        void putAll(CandleSeries series) {
+            lock.writeLock().lock();
+            try {
+                // series 는 최신순이므로 가장 오래된 행이 마지막에 있다
+                if (size > 0 && series.openTime(series.size() - 1) < openTime[index(size - 1)]) {
+                    mergeOutOfOrder(series);
+                    return;
+                }
+                for (int i = series.size() - 1; i >= 0; i--) {
+                    append(series, i);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void markComplete() {
+            lock.writeLock().lock();
+            try {
+                complete = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Optional<CandleSeries> newest(String market, int limit) {
+            lock.readLock().lock();
+            try {
+                if (size < limit && !complete) {
+                    return Optional.empty();
+                }
+                int n = Math.min(limit, size);
+                CandleSeries.Builder b = CandleSeries.builder(market, n);
+                for (int i = 0; i < n; i++) {
+                    int idx = index(size - 1 - i);
+                    b.add(openTime[idx], open[idx], high[idx], low[idx], close[idx], volume[idx]);
+                }
+                return Optional.of(b.build());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        OptionalLong latestOpenTime() {
+            lock.readLock().lock();
+            try {
+                return size == 0 ? OptionalLong.empty() : OptionalLong.of(openTime[index(size - 1)]);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // 가장 최신 캔들과 같은 시각이면 교체(진행 중인 봉), 더 최신이면 추가
+        private void append(CandleSeries s, int i) {
+            int slot;
+            if (size > 0 && openTime[index(size - 1)] == s.openTime(i)) {
+                slot = index(size - 1);
+            } else if (size < capacity) {
+                slot = index(size);
+                size++;
+            } else {
+                slot = head;
+                head = (head + 1) % capacity;
+                complete = false;
+            }
+            set(slot, s.openTime(i), s.open(i), s.high(i), s.low(i), s.close(i), s.volume(i));
+        }
+
+        // 과거 캔들이 섞여 들어온 경우(워밍업과 수집이 겹칠 때) 두 정렬 목록을 병합해 최신 capacity 개만 남긴다
+        private void mergeOutOfOrder(CandleSeries s) {
+            int total = size + s.size();
+            long[][] merged = new long[6][total];
+            int a = 0;              // 기존 버퍼, 오름차순
+            int b = s.size() - 1;   // 새 캔들, 내림차순이므로 뒤에서부터
+            int n = 0;
+            while (a < size || b >= 0) {
+                int idx = a < size ? index(a) : -1;
+                boolean takeNew = b >= 0 && (idx < 0 || s.openTime(b) <= openTime[idx]);
+                if (takeNew) {
+                    if (idx >= 0 && s.openTime(b) == openTime[idx]) {
+                        a++; // 같은 시각은 새 값이 우선
+                    }
+                    put(merged, n++, s.openTime(b), s.open(b), s.high(b), s.low(b), s.close(b), s.volume(b));
+                    b--;
+                } else {
+                    put(merged, n++, openTime[idx], open[idx], high[idx], low[idx], close[idx], volume[idx]);
+                    a++;
+                }
+            }
+            int from = Math.max(0, n - capacity);
+            if (from > 0) {
+                complete = false;
+            }
+            head = 0;
+            size = 0;
+            for (int i = from; i < n; i++) {
+                set(size++, merged[0][i], merged[1][i], merged[2][i], merged[3][i], merged[4][i], merged[5][i]);
+            }
+        }
+
+        private static void put(long[][] cols, int i, long t, long o, long h, long l, long c, long v) {
+            cols[0][i] = t;
+            cols[1][i] = o;
+            cols[2][i] = h;
+            cols[3][i] = l;
+            cols[4][i] = c;
+            cols[5][i] = v;
+        }
+
+        private void set(int slot, long t, long o, long h, long l, long c, long v) {
+            openTime[slot] = t;
+            open[slot] = o;
+            high[slot] = h;
+            low[slot] = l;
+            close[slot] = c;
+            volume[slot] = v;
+        }
+
+        private int index(int offset) {
+            return (head + offset) % capacity;
+        }
+    }
+}
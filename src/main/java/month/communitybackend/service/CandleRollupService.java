@@ -0,0 +1,200 @@
+package month.communitybackend.service;
+
+import month.communitybackend.domain.CandleInterval;
+import month.communitybackend.dto.CandleSeries;
+import month.communitybackend.repository.CandleRepository;
+import month.communitybackend.repository.CandleRepositoryCustom.RollupBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 저장된 1분봉으로 5분/15분/1시간/4시간/1일봉을 만드는 집계 엔진.
+ * 새 1분봉이 들어올 때마다 진행 중인 구간만 증분 갱신해 단위별 CandleCache 에 보관하고,
+ * 캐시에 없는 구간은 DB 의 1분봉을 집계해 채운다. 업비트 추가 호출은 없다.
+ */
+@Service
+public class CandleRollupService {
+    private final CandleRepository candleRepo;
+    private final int capacity;
+    private final Map<CandleInterval, CandleCache> caches = new EnumMap<>(CandleInterval.class);
+    // (마켓, 단위)별 진행 중인 구간
+    private final ConcurrentMap<String, Bucket> forming = new ConcurrentHashMap<>();
+
+    public CandleRollupService(
+            CandleRepository candleRepo,
+            @Value("${candle.rollup.capacity:200}") int capacity
+    ) {
+        this.candleRepo = candleRepo;
+        this.capacity = capacity;
+        for (CandleInterval interval : CandleInterval.values()) {
+            if (interval != CandleInterval.M1) {
+                caches.put(interval, new CandleCache(capacity));
+            }
+        }
+    }
+
+    // 저장이 끝난 1분봉을 모든 상위 단위에 반영, CandleService.saveAll 에서 사용
+    public void onMinuteCandles(CandleSeries minutes) {
+        if (minutes.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<CandleInterval, CandleCache> e : caches.entrySet()) {
+            CandleInterval interval = e.getKey();
+            Bucket bucket = forming.computeIfAbsent(key(minutes.market(), interval),
+                    k -> seed(minutes.market(), interval, minutes.openTime(0)));
+            CandleSeries touched;
+            synchronized (bucket) {
+                touched = bucket.apply(minutes);
+            }
+            e.getValue().putAll(touched);
+        }
+    }
+
+    // 최신순 limit 개, 캐시에 없으면 DB 에서 capacity 개 구간을 집계해 캐시를 채운다
+    public CandleSeries getRecent(String market, CandleInterval interval, int limit) {
+        CandleCache cache = caches.get(interval);
+        if (cache == null) {
+            throw new IllegalArgumentException("1분봉은 집계 대상이 아닙니다.");
+        }
+        return cache.getRecent(market, limit).orElseGet(() -> {
+            int n = Math.max(limit, capacity);
+            CandleSeries loaded = load(market, interval, n);
+            if (n == capacity) {
+                cache.warm(loaded);
+            }
+            return limit(loaded, limit);
+        });
+    }
+
+    // [from, to) 에 걸친 구간 최신 limit 개, 과거 구간 조회라 캐시를 거치지 않고 DB 에서 집계한다
+    public CandleSeries getRange(String market, CandleInterval interval, long from, long to, int limit) {
+        // 잘린 구간이 생기지 않도록 경계를 봉 단위로 맞춘다, 열린 끝은 현재 봉까지
+        long alignedTo = to == Long.MAX_VALUE
+                ? interval.bucketStart(System.currentTimeMillis()) + interval.millis()
+                : interval.bucketStart(to - 1) + interval.millis();
+        // 최신 limit 개 봉에 필요한 구간만 집계하도록 시작을 자른다 (from 이 없으면 전체 이력을 GROUP BY 하게 됨)
+        long alignedFrom = Math.max(
+                from == Long.MIN_VALUE ? from : interval.bucketStart(from),
+                alignedTo - (long) limit * interval.millis());
+        return toSeries(market, candleRepo.findRollups(market, interval.millis(), alignedFrom, alignedTo, limit));
+    }
+
+    // 백필처럼 과거 1분봉이 바뀐 경우 집계 캐시를 버린다
+    public void invalidate(String market) {
+        caches.values().forEach(c -> c.invalidate(market));
+        for (CandleInterval interval : caches.keySet()) {
+            forming.remove(key(market, interval));
+        }
+    }
+
+    private CandleSeries load(String market, CandleInterval interval, int n) {
+        long from = interval.bucketStart(System.currentTimeMillis()) - (n - 1) * interval.millis();
+        return toSeries(market, candleRepo.findRollups(market, interval.millis(), from, n));
+    }
+
+    private static CandleSeries toSeries(String market, List<RollupBucket> rows) {
+        CandleSeries.Builder b = CandleSeries.builder(market, rows.size());
+        for (RollupBucket r : rows) {
+            b.add(r.start(), r.open(), r.high(), r.low(), r.close(), r.volume());
+        }
+        return b.build();
+    }
+
+    // 처음 보는 (마켓, 단위)는 DB 에 이미 저장된 진행 중 구간부터 이어서 집계
+    private Bucket seed(String market, CandleInterval interval, long newestMinute) {
+        long start = interval.bucketStart(newestMinute);
+        Bucket bucket = new Bucket(market, interval);
+        candleRepo.findRollups(market, interval.millis(), start, 1).stream()
+                .findFirst()
+                .ifPresent(bucket::restore);
+        return bucket;
+    }
+
+    private static CandleSeries limit(CandleSeries s, int limit) {
+        if (s.size() <= limit) {
+            return s;
+        }
+        CandleSeries.Builder b = CandleSeries.builder(s.market(), limit);
+        for (int i = 0; i < limit; i++) {
+            b.add(s.openTime(i), s.open(i), s.high(i), s.low(i), s.close(i), s.volume(i));
+        }
+        return b.build();
+    }
+
+    private static String key(String market, CandleInterval interval) {
+        return market + '|' + interval.code();
+    }
+
+    /**
+     * 진행 중인 집계 구간. 같은 1분봉이 다시 들어오면(진행 중이던 봉의 확정값) 그 봉의 이전 거래량을 빼고 다시 더한다.
+     * 고가/저가는 진행 중인 봉에서 단조롭게만 변하므로 max/min 으로 충분하다.
+     */
+    private static final class Bucket {
+        private final String market;
+        private final CandleInterval interval;
+        private boolean started;
+        private long start, open, high, low, close, volume;
+        private long lastTime, lastVolume;
+
+        Bucket(String market, CandleInterval interval) {
+            this.market = market;
+            this.interval = interval;
+        }
+
+        void restore(RollupBucket r) {
+            started = true;
+            start = r.start();
+            open = r.open();
+            high = r.high();
+            low = r.low();
+            close = r.close();
+            volume = r.volume();
+            lastTime = r.lastTime();
+            lastVolume = r.lastVolume();
+        }
+
+        // minutes 는 최신순, 오래된 봉부터 반영하고 변경된 구간들을 돌려준다
+        CandleSeries apply(CandleSeries minutes) {
+            CandleSeries.Builder touched = CandleSeries.builder(market, 2);
+            for (int i = minutes.size() - 1; i >= 0; i--) {
+                long t = minutes.openTime(i);
+                long b = interval.bucketStart(t);
+                if (!started || b > start) {
+                    if (started) {
+                        emit(touched);
+                    }
+                    started = true;
+                    start = b;
+                    open = minutes.open(i);
+                    high = minutes.high(i);
+                    low = minutes.low(i);
+                    close = minutes.close(i);
+                    volume = minutes.volume(i);
+                } else if (b == start && t >= lastTime) {
+                    volume += t == lastTime ? minutes.volume(i) - lastVolume : minutes.volume(i);
+                    high = Math.max(high, minutes.high(i));
+                    low = Math.min(low, minutes.low(i));
+                    close = minutes.close(i);
+                } else {
+                    continue; // 이미 반영된 과거 봉
+                }
+                lastTime = t;
+                lastVolume = minutes.volume(i);
+            }
+            if (started) {
+                emit(touched);
+            }
+            return touched.build();
+        }
+
+        private void emit(CandleSeries.Builder out) {
+            out.add(start, open, high, low, close, volume);
+        }
+    }
+}
@@ -1,95 +1,147 @@
 package month.communitybackend.service;
 
 import lombok.RequiredArgsConstructor;
-import month.communitybackend.domain.Candle;
-import month.communitybackend.domain.CandleId;
+import lombok.extern.slf4j.Slf4j;
+import month.communitybackend.domain.CandleInterval;
 import month.communitybackend.dto.CandleDto;
+import month.communitybackend.dto.CandleSeries;
 import month.communitybackend.repository.CandleRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import month.communitybackend.repository.CandleRepositoryCustom.UpsertResult;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import org.springframework.transaction.annotation.Transactional;
-import java.util.Arrays;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.OptionalLong;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CandleService {
     private final CandleRepository candleRepo;
-    private final RestTemplate rt = new RestTemplate();
-
-    // 1분봉, 마켓, 개수 파라미터
-    private static final String UPBIT_API =
-            "https://api.upbit.com/v1/candles/minutes/{unit}?market={market}&count={count}";
-
-
-     // 외부(업비트)에서 최근 count개 봉을 받아와 CandleDto로 변환
-    public List<CandleDto> fetchFromUpbit(String market, int unit, int count) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
-        HttpEntity<Void> req = new HttpEntity<>(headers);
-
-        ResponseEntity<CandleDto[]> resp = rt.exchange(
-                UPBIT_API,
-                HttpMethod.GET,
-                req,
-                CandleDto[].class,
-                unit,
-                market,
-                count
-        );
-
-        return Arrays.stream(resp.getBody())
-                .map(d -> CandleDto.builder()
-                        .market(market)
-                        .openTime(d.getOpenTime())
-                        .open(d.getOpen())
-                        .high(d.getHigh())
-                        .low(d.getLow())
-                        .close(d.getClose())
-                        .volume(d.getVolume())
-                        .build())
-                .collect(Collectors.toList());
+    private final CandleCache candleCache;
+    private final UpbitClient upbitClient;
+    private final CandleRollupService rollupService;
+
+    // 업비트 캔들 API 한 번에 받을 수 있는 최대 개수
+    public static final int MAX_COUNT = 200;
+    // 증분 수집 한 번에 따라잡는 최대 봉 개수, 그보다 긴 공백은 since 부터 이만큼씩 다음 주기들에 나눠 채운다
+    private static final int MAX_CATCH_UP = MAX_COUNT * 5;
+
+
+     // 외부(업비트)에서 최근 count개 봉을 받아와 CandleSeries로 변환
+    public CandleSeries fetchFromUpbit(String market, int unit, int count) {
+        return fetchFromUpbit(market, unit, count, null);
+    }
+
+    // to 가 주어지면 그 시각 이전의 count개 봉을 받아온다
+    public CandleSeries fetchFromUpbit(String market, int unit, int count, Instant to) {
+        CandleDto[] body = upbitClient.getMinuteCandles(market, unit, count, to);
+
+        // 업비트의 timestamp 는 봉 안의 마지막 체결 시각이므로 봉 시작 시각으로 내림해 키로 사용
+        long unitMs = unit * 60_000L;
+        CandleSeries.Builder b = CandleSeries.builder(market, body.length);
+        for (CandleDto d : body) {
+            b.add(d.getOpenTime() - Math.floorMod(d.getOpenTime(), unitMs),
+                    CandleSeries.toScaled(d.getOpen()),
+                    CandleSeries.toScaled(d.getHigh()),
+                    CandleSeries.toScaled(d.getLow()),
+                    CandleSeries.toScaled(d.getClose()),
+                    CandleSeries.toScaledVolume(d.getVolume()));
+        }
+        return b.build();
+    }
+
+    // since(포함) 이후의 봉만 받아온다, since 봉은 직전 수집 때 진행 중이던 봉이라 확정값으로 다시 받는다
+    public CandleSeries fetchSince(String market, int unit, long since) {
+        long unitMs = unit * 60_000L;
+        since -= Math.floorMod(since, unitMs);
+        long missing = (System.currentTimeMillis() - since) / unitMs + 1;
+        int remaining = (int) Math.max(missing, 1);
+        Instant to = null;
+        if (missing > MAX_CATCH_UP) {
+            // 최신 쪽만 받으면 high-water 가 공백을 건너뛰므로 since 바로 뒤 구간부터 받는다
+            remaining = MAX_CATCH_UP;
+            to = Instant.ofEpochMilli(since + MAX_CATCH_UP * unitMs);
+            log.info("캔들 공백 따라잡기: market={}, since={}, missing={}", market, Instant.ofEpochMilli(since), missing);
+        }
+
+        CandleSeries.Builder result = CandleSeries.builder(market, Math.min(remaining, MAX_COUNT));
+        while (remaining > 0) {
+            int count = Math.min(remaining, MAX_COUNT);
+            CandleSeries page = fetchFromUpbit(market, unit, count, to);
+            for (int i = 0; i < page.size() && page.openTime(i) >= since; i++) {
+                result.add(page.openTime(i), page.open(i), page.high(i), page.low(i), page.close(i), page.volume(i));
+            }
+            if (page.size() < count || page.openTime(page.size() - 1) <= since) {
+                break;
+            }
+            to = Instant.ofEpochMilli(page.openTime(page.size() - 1));
+            remaining -= page.size();
+        }
+        return result.build();
+    }
+
+    // 마켓별 마지막으로 저장된 봉 시각, 캐시에 없으면 DB 조회
+    public OptionalLong findLatestOpenTime(String market) {
+        OptionalLong cached = candleCache.latestOpenTime(market);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return candleRepo.findFirstByIdMarketOrderByIdOpenTimeDesc(market)
+                .map(c -> OptionalLong.of(c.getId().getOpenTime()))
+                .orElse(OptionalLong.empty());
+    }
+
+    // 받아온 캔들을 DB에 저장, 추후 사용가능 할 수도 있기 때문, CandleScheduler 에서 사용
+    public UpsertResult saveAll(CandleSeries series) {
+        return saveAll(List.of(series));
+    }
+
+    // 여러 마켓의 캔들을 JDBC 다중 행 upsert 로 한 번에 저장
+    public UpsertResult saveAll(Collection<CandleSeries> series) {
+        UpsertResult result = candleRepo.upsertAll(series);
+        for (CandleSeries s : series) {
+            candleCache.putAll(s);
+            rollupService.onMinuteCandles(s);
+        }
+        return result;
+    }
+
+    //최근 1분 캔들차트 조회, CandleController 에서 사용, 캐시에 없을 때만 DB 조회
+    public CandleSeries getRecent(String market, int limit) {
+        return candleCache.getRecent(market, limit)
+                .orElseGet(() -> findRecent(market, limit));
+    }
+
+    // interval 단위 캔들 조회, 1분봉 외에는 저장된 1분봉의 집계 결과
+    public CandleSeries getRecent(String market, CandleInterval interval, int limit) {
+        if (interval == CandleInterval.M1) {
+            return getRecent(market, limit);
+        }
+        return rollupService.getRecent(market, interval, limit);
+    }
+
+    // [from, to) 구간의 최신 limit 개, 차트를 과거로 넘길 때 사용 (to 는 이전 페이지의 가장 오래된 봉 시각)
+    public CandleSeries getRange(String market, CandleInterval interval, long from, long to, int limit) {
+        if (interval == CandleInterval.M1) {
+            return candleRepo.findRange(market, from, to, limit);
+        }
+        return rollupService.getRange(market, interval, from, to, limit);
     }
 
-    // 받아온 DTO를 DB에 저장, 추후 사용가능 할 수도 있기 때문, CandleScheduler 에서 사용
-    @Transactional
-    public void saveAll(List<CandleDto> dto) {
-        List<Candle> entities = dto.stream()
-                .map(d -> Candle.builder()
-                        .id(new CandleId(d.getMarket(), d.getOpenTime()))
-                        .open(d.getOpen())
-                        .high(d.getHigh())
-                        .low(d.getLow())
-                        .close(d.getClose())
-                        .volume(d.getVolume())
-                        .build())
-                .collect(Collectors.toList());
-        candleRepo.saveAll(entities);
+    // 애플리케이션 시작 시 DB 의 최근 캔들로 캐시를 채움, CandleScheduler 에서 사용
+    public void warmCache(String market) {
+        candleCache.warm(findRecent(market, candleCache.capacity()));
     }
-    //최근 1분 캔들차트 조회, CandleController 에서 사용
-    public List<CandleDto> getRecent(String market, int limit) {
-        Pageable page = PageRequest.of(0, limit);
-        return candleRepo
-                .findByIdMarketOrderByIdOpenTimeDesc(market, page)
-                .stream()
-                .map(c -> CandleDto.builder()
-                        .market(c.getId().getMarket())
-                        .openTime(c.getId().getOpenTime())
-                        .open(c.getOpen())
-                        .high(c.getHigh())
-                        .low(c.getLow())
-                        .close(c.getClose())
-                        .volume(c.getVolume())
-                        .build())
-                .collect(Collectors.toList());
+
+    // 백필로 과거 봉이 추가된 뒤 1분봉 캐시를 다시 채우고 집계 캐시를 비운다
+    public void refreshCaches(String market) {
+        warmCache(market);
+        rollupService.invalidate(market);
+    }
+
+    private CandleSeries findRecent(String market, int limit) {
+        return candleRepo.findRange(market, Long.MIN_VALUE, Long.MAX_VALUE, limit);
     }
 }
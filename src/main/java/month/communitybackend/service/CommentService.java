@@ -5,32 +5,40 @@ import lombok.RequiredArgsConstructor;
 import month.communitybackend.domain.Comment;
 import month.communitybackend.domain.Post;
 import month.communitybackend.domain.User;
+import month.communitybackend.dto.CommentDto;
+import month.communitybackend.dto.CursorSlice;
+import month.communitybackend.dto.KeysetCursor;
 import month.communitybackend.repository.CommentRepository;
 import month.communitybackend.repository.PostRepository;
-import month.communitybackend.repository.UserRepository;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+    // 내보내기 시 한 번에 읽는 댓글 수
+    private static final int EXPORT_CHUNK = 1000;
+
     private final CommentRepository commentRepo;
     private final PostRepository postRepo;
-    private final UserRepository userRepo;
+    private final CurrentUserService currentUser;
+    private final ApplicationEventPublisher events;
 
     // 특정 게시글에 대한 댓글 생성
     @Transactional
     public Comment create(Long postId, String content) {
-        // 현재 인증된 사용자 정보 조회
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        User author = userRepo.findByUsername(username)
-                .orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다: " + username));
+        // 현재 인증된 사용자, 캐시된 스냅샷의 id 로 참조만 건다
+        User author = currentUser.currentReference();
 
-        // 댓글을 작성할 게시글 정보 조회
-        Post post = postRepo.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 게시글을 찾을 수 없습니다: " + postId));
+        // 게시글의 댓글 수를 먼저 올려 존재 여부를 확인, 게시글 본문은 읽지 않고 참조만 사용
+        if (postRepo.incrementCommentCount(postId) == 0) {
+            throw new EntityNotFoundException("해당 게시글을 찾을 수 없습니다: " + postId);
+        }
+        Post post = postRepo.getReferenceById(postId);
 
         // 댓글 객체 생성
         Comment comment = Comment.builder()
@@ -39,20 +47,45 @@ public class CommentService {
                 .content(content)
                 .build();
 
-        // 생성된 댓글을 DB에 저장
-        return commentRepo.save(comment);
+        // 생성된 댓글을 DB에 저장, 커밋 후 인기글 점수에 반영
+        Comment saved = commentRepo.save(comment);
+        events.publishEvent(new PostActivityEvent(postId, null, PostActivityEvent.Activity.COMMENTED));
+        return saved;
     }
 
-    // 특정 게시글에 달린 모든 댓글 조회
+    // 특정 게시글의 댓글을 작성순으로 size 개씩 조회, cursor 가 null 이면 첫 페이지
     @Transactional(readOnly = true)
-    public List<Comment> listByPost(Long postId) {
-        return commentRepo.findByPostId(postId);
+    public CursorSlice<CommentDto.Response> listByPost(Long postId, KeysetCursor cursor, int size) {
+        return CursorSlice.of(findPage(postId, cursor, size + 1), size,
+                c -> new KeysetCursor(c.getCreatedAt(), c.getId()), c -> c);
+    }
+
+    // 게시글의 전체 댓글을 EXPORT_CHUNK 개씩 나눠 작성순으로 넘긴다
+    // 청크마다 짧은 읽기 전용 쿼리 하나라 댓글 수와 상관없이 메모리와 커넥션 점유가 일정하다
+    public void exportByPost(Long postId, Consumer<List<CommentDto.Response>> sink) {
+        KeysetCursor cursor = null;
+        List<CommentDto.Response> chunk;
+        do {
+            chunk = findPage(postId, cursor, EXPORT_CHUNK);
+            if (chunk.isEmpty()) {
+                return;
+            }
+            sink.accept(chunk);
+            CommentDto.Response last = chunk.get(chunk.size() - 1);
+            cursor = new KeysetCursor(last.getCreatedAt(), last.getId());
+        } while (chunk.size() == EXPORT_CHUNK);
+    }
+
+    private List<CommentDto.Response> findPage(Long postId, KeysetCursor cursor, int limit) {
+        return cursor == null
+                ? commentRepo.findPageByPostId(postId, Limit.of(limit))
+                : commentRepo.findPageByPostIdAfter(postId, cursor.createdAt(), cursor.id(), Limit.of(limit));
     }
 
     // 댓글 삭제
     @Transactional
     public void delete(Long postId, Long commentId) {
-        // 삭제할 댓글 정보 조회
+        // 삭제할 댓글 정보 조회, 게시글은 id 만 확인하므로 프록시 그대로 둔다
         Comment comment = commentRepo.findById(commentId)
                         .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다."));
 
@@ -61,14 +94,15 @@ public class CommentService {
             throw new IllegalArgumentException("해당 게시글의 작성되지 않은 댓글입니다.");
         }
 
-        // 댓글 삭제 실행
-        commentRepo.deleteById(commentId);
+        // 댓글 삭제 실행, 이미 읽은 엔티티를 지워 재조회를 피한다
+        commentRepo.delete(comment);
+        postRepo.decrementCommentCount(postId);
     }
 
     // 단일 댓글 정보 조회
     @Transactional(readOnly = true)
     public Comment get(Long id) {
-        return commentRepo.findById(id)
+        return commentRepo.findWithAuthorById(id)
                 .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다. id =" + id));
     }
 
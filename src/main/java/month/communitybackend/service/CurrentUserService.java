@@ -0,0 +1,96 @@
+package month.communitybackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.persistence.EntityNotFoundException;
+import month.communitybackend.domain.Role;
+import month.communitybackend.domain.User;
+import month.communitybackend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 현재 로그인한 사용자를 (id, username, roles) 스냅샷으로 해석하는 계층.
+ * 글/댓글 작성처럼 작성자 id 만 필요한 경로가 요청마다 users 를 조회하지 않도록 username 별로 캐시한다.
+ * 변경/탈퇴는 UserChangedEvent 로 커밋 후 무효화하고, 다른 인스턴스의 변경은 TTL 로 따라간다.
+ * 없거나 탈퇴한 사용자도 negative-ttl 동안 empty 로 캐시해, 남은 토큰으로 들어오는 요청마다 조회하지 않는다.
+ */
+@Component
+public class CurrentUserService {
+    private final UserRepository userRepo;
+    private final Cache<String, Optional<Snapshot>> snapshots;
+
+    public CurrentUserService(
+            UserRepository userRepo,
+            @Value("${user.cache.max-entries:10000}") long maxEntries,
+            @Value("${user.cache.ttl-ms:300000}") long ttlMs,
+            @Value("${user.cache.negative-ttl-ms:30000}") long negativeTtlMs
+    ) {
+        this.userRepo = userRepo;
+        long ttlNanos = Duration.ofMillis(ttlMs).toNanos();
+        long negativeTtlNanos = Duration.ofMillis(negativeTtlMs).toNanos();
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, Optional<Snapshot>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<Snapshot> value, long currentTime) {
+                        return value.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<Snapshot> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<Snapshot> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Snapshot current() {
+        return get(SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+
+    public Snapshot get(String username) {
+        return find(username)
+                .orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다.: " + username));
+    }
+
+    // 캐시에 없으면 권한까지 한 번의 쿼리로 읽어 스냅샷을 만든다, 탈퇴했거나 탈퇴 처리 중인 사용자는 empty (짧게 캐시)
+    public Optional<Snapshot> find(String username) {
+        return snapshots.get(username, name -> userRepo.findWithRolesByUsername(name)
+                .filter(u -> !u.isDeleted())
+                .map(Snapshot::of));
+    }
+
+    // 연관관계 설정용 현재 사용자 참조, users 를 조회하지 않는다
+    public User currentReference() {
+        return userRepo.getReferenceById(current().id());
+    }
+
+    public void evict(String username) {
+        snapshots.invalidate(username);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.username());
+    }
+
+    public record Snapshot(Long id, String username, List<String> roles) {
+        static Snapshot of(User user) {
+            return new Snapshot(user.getId(), user.getUsername(),
+                    user.getRoles().stream().map(Role::getName).toList());
+        }
+    }
+}
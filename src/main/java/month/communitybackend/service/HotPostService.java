@@ -0,0 +1,166 @@
+package month.communitybackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import month.communitybackend.dto.PostDto;
+import month.communitybackend.repository.PostRepository;
+import month.communitybackend.repository.PostRepository.HotSeed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 마켓별 인기글 순위. 활동(작성, 조회, 댓글)마다 가중치를 시간 감쇠해 더한 점수로 정렬한다.
+ * 점수는 log(Σ w·e^(λ·(t - EPOCH))) 형태로 보관해, 시간이 흘러도 기존 글 사이의 순서가 바뀌지 않으므로
+ * 활동이 생긴 글만 정렬 구조(skip list)에서 다시 넣으면 되고 전체 재정렬이 필요 없다.
+ * 조회는 주기적으로 만든 상위 목록 스냅샷에서 O(k) 로 읽는다.
+ */
+@Service
+public class HotPostService {
+    // 감쇠 기준 시각, 지수가 너무 커지지 않도록 최근 시점으로 고정
+    private static final long EPOCH_MILLIS = 1_735_689_600_000L; // 2025-01-01T00:00:00Z
+    private static final Comparator<Ranked> ORDER = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparing(Comparator.comparingLong(Ranked::postId).reversed());
+
+    private final PostRepository postRepo;
+    private final double decayPerMilli;
+    private final int capacity;
+    private final int snapshotSize;
+
+    private final ConcurrentMap<String, Ranking> rankings = new ConcurrentHashMap<>();
+    // 조회/댓글 이벤트에는 market 이 없어 게시글 id 로 찾아 둔다
+    private final Cache<Long, String> marketOf = Caffeine.newBuilder().maximumSize(100_000).build();
+
+    public HotPostService(
+            PostRepository postRepo,
+            @Value("${post.hot.half-life-hours:6}") double halfLifeHours,
+            @Value("${post.hot.capacity:1000}") int capacity,
+            @Value("${post.hot.snapshot-size:100}") int snapshotSize
+    ) {
+        this.postRepo = postRepo;
+        this.decayPerMilli = Math.log(2) / Duration.ofMinutes(Math.round(halfLifeHours * 60)).toMillis();
+        this.capacity = capacity;
+        this.snapshotSize = snapshotSize;
+    }
+
+    // 커밋된 활동만 반영 (롤백된 댓글은 점수에 들어가지 않음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(PostActivityEvent event) {
+        record(event.postId(), event.market(), event.activity().weight(), System.currentTimeMillis());
+    }
+
+    // 게시글 조회, PostController 에서 사용 (캐시 적중 여부와 상관없이 호출)
+    public void onView(Long postId) {
+        record(postId, null, PostActivityEvent.Activity.VIEWED.weight(), System.currentTimeMillis());
+    }
+
+    // 시작 시 최근 게시글의 작성/댓글 수로 순위를 복원
+    public void seed(Duration horizon) {
+        LocalDateTime since = LocalDateTime.now().minus(horizon);
+        for (HotSeed s : postRepo.findHotSeeds(since)) {
+            long at = s.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            double weight = PostActivityEvent.Activity.CREATED.weight()
+                    + s.commentCount() * PostActivityEvent.Activity.COMMENTED.weight();
+            record(s.id(), s.market(), weight, at);
+        }
+        snapshot();
+    }
+
+    // 마켓별 상위 snapshotSize 개를 불변 목록으로 복사, 조회는 이 스냅샷만 읽는다
+    public void snapshot() {
+        rankings.values().forEach(Ranking::snapshot);
+    }
+
+    // 마켓 인기글 상위 limit 개, 삭제된 글은 요약 조회에서 빠진다
+    public List<PostDto.Summary> getHot(String market, int limit) {
+        Ranking ranking = rankings.get(market);
+        if (ranking == null) {
+            return List.of();
+        }
+        List<Long> ids = ranking.top;
+        ids = ids.subList(0, Math.min(limit, ids.size()));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostDto.Summary> byId = postRepo.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(PostDto.Summary::getId, Function.identity()));
+        List<PostDto.Summary> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostDto.Summary s = byId.get(id);
+            if (s != null) {
+                result.add(s);
+            }
+        }
+        return result;
+    }
+
+    private void record(Long postId, String market, double weight, long at) {
+        if (market == null) {
+            market = marketOf.get(postId, id -> postRepo.findMarketById(id).orElse(null));
+            if (market == null) {
+                return; // 삭제된 게시글
+            }
+        } else {
+            marketOf.put(postId, market);
+        }
+        // log(w) + λ(t - EPOCH): 가중치 w 를 EPOCH 기준으로 환산한 값의 로그
+        double logWeight = Math.log(weight) + decayPerMilli * (at - EPOCH_MILLIS);
+        rankings.computeIfAbsent(market, m -> new Ranking()).add(postId, logWeight);
+    }
+
+    // log(e^a + e^b), 지수를 직접 계산하지 않아 오버플로가 없다
+    static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(-Math.abs(a - b)));
+    }
+
+    private record Ranked(double score, long postId) {
+    }
+
+    private final class Ranking {
+        private final ConcurrentSkipListSet<Ranked> sorted = new ConcurrentSkipListSet<>(ORDER);
+        private final Map<Long, Double> scores = new HashMap<>();
+        private volatile List<Long> top = List.of();
+
+        synchronized void add(long postId, double logWeight) {
+            Double prev = scores.get(postId);
+            double next = prev == null ? logWeight : logAddExp(prev, logWeight);
+            if (prev != null) {
+                sorted.remove(new Ranked(prev, postId));
+            }
+            scores.put(postId, next);
+            sorted.add(new Ranked(next, postId));
+            // 점수가 가장 낮은 글부터 버려 마켓당 capacity 개만 유지
+            while (scores.size() > capacity) {
+                Ranked last = sorted.pollLast();
+                if (last != null) {
+                    scores.remove(last.postId());
+                }
+            }
+        }
+
+        void snapshot() {
+            List<Long> ids = new ArrayList<>(snapshotSize);
+            Iterator<Ranked> it = sorted.iterator();
+            while (it.hasNext() && ids.size() < snapshotSize) {
+                ids.add(it.next().postId());
+            }
+            top = List.copyOf(ids);
+        }
+    }
+}
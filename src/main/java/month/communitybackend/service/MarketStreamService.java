@@ -0,0 +1,198 @@
+package month.communitybackend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import month.communitybackend.dto.CandleSeries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캔들/시세 실시간 스트림(SSE).
+ * 수집 스케줄러가 만든 업데이트 하나를 JSON 으로 한 번만 직렬화해 구독자 전체에 나눠 보낸다.
+ * 구독자마다 크기가 제한된 큐와 전송 전용 가상 스레드를 두고, 큐가 가득 찬 느린 구독자는 끊는다.
+ */
+@Slf4j
+@Service
+public class MarketStreamService {
+    private static final String TICKER_MARKET_FIELD = "market";
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+
+    private final ConcurrentMap<String, Set<Subscription>> byMarket = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    // 마켓별 마지막 시세, 변경된 필드만 보내기 위한 기준이자 신규 구독자의 초기값
+    private final ConcurrentMap<String, Map<String, Object>> lastTickers = new ConcurrentHashMap<>();
+
+    public MarketStreamService(
+            ObjectMapper objectMapper,
+            @Value("${stream.buffer-size:64}") int bufferSize,
+            @Value("${stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${stream.timeout-ms:1800000}") long timeoutMs
+    ) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter subscribe(Set<String> markets) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "스트림 구독자가 너무 많습니다.");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscription sub = new Subscription(emitter, markets);
+        emitter.onCompletion(sub::close);
+        emitter.onTimeout(sub::close);
+        emitter.onError(e -> sub.close());
+        for (String m : markets) {
+            byMarket.computeIfAbsent(m, k -> ConcurrentHashMap.newKeySet()).add(sub);
+            Map<String, Object> ticker = lastTickers.get(m);
+            if (ticker != null) {
+                sub.offer(new StreamEvent("ticker", toJson(ticker)));
+            }
+        }
+        sub.start();
+        return emitter;
+    }
+
+    // 구독자가 있는 마켓, 시세 폴링 대상
+    public Set<String> activeMarkets() {
+        return byMarket.keySet();
+    }
+
+    // 새로 저장된 캔들을 마켓 구독자에게 전송
+    public void publishCandles(Collection<CandleSeries> updates) {
+        for (CandleSeries s : updates) {
+            Set<Subscription> subs = byMarket.get(s.market());
+            if (subs != null && !subs.isEmpty()) {
+                fanOut(subs, new StreamEvent("candle", toJson(s)));
+            }
+        }
+    }
+
+    // 업비트 시세 응답에서 직전 값과 달라진 필드만 골라 전송
+    public void publishTickers(List<Map<String, Object>> tickers) {
+        for (Map<String, Object> ticker : tickers) {
+            String market = (String) ticker.get(TICKER_MARKET_FIELD);
+            if (market == null) {
+                continue;
+            }
+            Map<String, Object> prev = lastTickers.put(market, ticker);
+            Map<String, Object> delta = delta(prev, ticker);
+            Set<Subscription> subs = byMarket.get(market);
+            if (delta.size() > 1 && subs != null && !subs.isEmpty()) {
+                fanOut(subs, new StreamEvent("ticker", toJson(delta)));
+            }
+        }
+    }
+
+    private void fanOut(Set<Subscription> subs, StreamEvent event) {
+        for (Subscription sub : subs) {
+            if (!sub.offer(event)) {
+                log.debug("느린 스트림 구독자 연결 종료: markets={}", sub.markets);
+                sub.close();
+            }
+        }
+    }
+
+    private static Map<String, Object> delta(Map<String, Object> prev, Map<String, Object> next) {
+        Map<String, Object> delta = new HashMap<>();
+        delta.put(TICKER_MARKET_FIELD, next.get(TICKER_MARKET_FIELD));
+        for (Map.Entry<String, Object> e : next.entrySet()) {
+            if (prev == null || !Objects.equals(prev.get(e.getKey()), e.getValue())) {
+                delta.put(e.getKey(), e.getValue());
+            }
+        }
+        return delta;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("스트림 이벤트 직렬화 실패", e);
+        }
+    }
+
+    private record StreamEvent(String name, String json) {
+    }
+
+    private final class Subscription {
+        private final SseEmitter emitter;
+        private final Set<String> markets;
+        private final BlockingQueue<StreamEvent> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private Thread sender;
+
+        Subscription(SseEmitter emitter, Set<String> markets) {
+            this.emitter = emitter;
+            this.markets = markets;
+        }
+
+        boolean offer(StreamEvent event) {
+            return closed.get() || queue.offer(event);
+        }
+
+        void start() {
+            sender = Thread.ofVirtual().name("sse-sender").start(this::drain);
+        }
+
+        // 큐에서 꺼내 순서대로 전송, 전송이 막히는 동안에는 이 구독자의 큐만 쌓인다
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    StreamEvent e = queue.take();
+                    emitter.send(SseEmitter.event().name(e.name()).data(e.json(), MediaType.APPLICATION_JSON));
+                }
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("스트림 전송 실패, 연결 종료: {}", e.toString());
+            } finally {
+                close();
+                emitter.complete();
+            }
+        }
+
+        // 발행 스레드, 전송 스레드, emitter 콜백에서 동시에 불릴 수 있어 CAS 로 한 번만 정리한다
+        // emitter 에 직접 쓰지 않고 전송 스레드만 깨운다
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscriberCount.decrementAndGet();
+            for (String m : markets) {
+                byMarket.computeIfPresent(m, (k, subs) -> {
+                    subs.remove(this);
+                    return subs.isEmpty() ? null : subs;
+                });
+            }
+            if (sender != null) {
+                sender.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package month.communitybackend.service;
+
+// 인기글 점수에 반영되는 게시글 활동, market 을 모르면 null (HotPostService 가 조회)
+public record PostActivityEvent(Long postId, String market, Activity activity) {
+
+    public enum Activity {
+        CREATED(1.0),
+        VIEWED(1.0),
+        COMMENTED(5.0);
+
+        private final double weight;
+
+        Activity(double weight) {
+            this.weight = weight;
+        }
+
+        public double weight() {
+            return weight;
+        }
+    }
+}
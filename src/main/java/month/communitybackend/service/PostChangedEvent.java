@@ -0,0 +1,12 @@
+package month.communitybackend.service;
+
+import java.util.Collection;
+import java.util.List;
+
+// 게시글 단건 응답이 바뀌는 변경(수정, 삭제, 작성자 탈퇴), 커밋 후 PostResponseCache 가 해당 항목을 버린다
+public record PostChangedEvent(Collection<Long> postIds) {
+
+    public static PostChangedEvent of(Long postId) {
+        return new PostChangedEvent(List.of(postId));
+    }
+}
@@ -0,0 +1,67 @@
+package month.communitybackend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import month.communitybackend.dto.PostDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게시글 단건 조회 응답을 JSON 바이트로 보관하는 read-through 캐시.
+ * 전체 크기를 바이트 단위로 제한하고, 자주 읽히는 글이 남도록 Caffeine 의 W-TinyLFU 로 진입/퇴출을 결정한다.
+ * 게시글 변경은 PostChangedEvent 로 받아 커밋 후에 무효화한다.
+ */
+@Component
+public class PostResponseCache {
+    private static final String CACHE_NAME = "post.response";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, byte[]> cache;
+
+    public PostResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @Value("${post.cache.max-bytes:67108864}") long maxBytes,
+            @Value("${post.cache.ttl-ms:600000}") long ttlMs
+    ) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, byte[] json) -> json.length)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.eviction.weight 등
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+    }
+
+    // 캐시에 없으면 loader 로 읽어 직렬화해 보관, 같은 글을 동시에 읽으면 한 번만 로드한다
+    public byte[] get(Long postId, Function<Long, PostDto.Response> loader) {
+        return cache.get(postId, id -> serialize(loader.apply(id)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        cache.invalidateAll(event.postIds());
+    }
+
+    private byte[] serialize(PostDto.Response response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 응답 직렬화 실패", e);
+        }
+    }
+}
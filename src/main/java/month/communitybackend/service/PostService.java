@@ -5,76 +5,97 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import month.communitybackend.domain.Post;
 import month.communitybackend.domain.User;
+import month.communitybackend.dto.CursorSlice;
+import month.communitybackend.dto.KeysetCursor;
 import month.communitybackend.dto.PostDto;
 import month.communitybackend.repository.PostRepository;
-import month.communitybackend.repository.UserRepository;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class PostService {
     private final PostRepository postRepo;
-    private final UserRepository userRepo;
+    private final CurrentUserService currentUser;
+    private final ApplicationEventPublisher events;
 
     @Transactional
     public Post create(String title, String content, String market) {
-        String username = SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getName();
-
-        User user = userRepo.findByUsername(username)
-                .orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다.: " + username));
-
+        // 작성자는 캐시된 현재 사용자 스냅샷의 id 로 참조만 건다
         Post post = Post.builder()
-                .author(user)
+                .author(currentUser.currentReference())
                 .title(title)
                 .content(content)
                 .market(market)
                 .build();
 
-        return postRepo.save(post);
+        Post saved = postRepo.save(post);
+        events.publishEvent(new PostActivityEvent(saved.getId(), market, PostActivityEvent.Activity.CREATED));
+        return saved;
     }
 
-    public Page<PostDto.Response> list(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return postRepo.findAll(pageable).map(this::convertToPostDtoResponse);
+    // 최신순 목록, cursor 가 null 이면 첫 페이지
+    public CursorSlice<PostDto.Summary> list(KeysetCursor cursor, int size) {
+        List<PostDto.Summary> rows = cursor == null
+                ? postRepo.findSummaries(Limit.of(size + 1))
+                : postRepo.findSummariesAfter(cursor.createdAt(), cursor.id(), Limit.of(size + 1));
+        return toSlice(rows, size);
     }
 
     public PostDto.Response get(Long postId) {
-        Post post = postRepo.findById(postId)
+        Post post = postRepo.findWithAuthorById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
         return convertToPostDtoResponse(post);
     }
 
     @Transactional
     public Post update(Long postId, String title, String content) {
-        Post post = postRepo.findById(postId)
+        Post post = postRepo.findWithAuthorById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
         post.setTitle(title);
         post.setContent(content);
-        return postRepo.save(post);
+        Post saved = postRepo.save(post);
+        events.publishEvent(PostChangedEvent.of(postId));
+        return saved;
     }
 
     @Transactional
     public void delete(Long postId) {
         postRepo.deleteById(postId);
+        events.publishEvent(PostChangedEvent.of(postId));
+    }
+
+    public CursorSlice<PostDto.Summary> getPostsByMarket(String market, KeysetCursor cursor, int size) {
+        List<PostDto.Summary> rows = cursor == null
+                ? postRepo.findSummariesByMarket(market, Limit.of(size + 1))
+                : postRepo.findSummariesByMarketAfter(market, cursor.createdAt(), cursor.id(), Limit.of(size + 1));
+        return toSlice(rows, size);
+    }
+
+    public CursorSlice<PostDto.Summary> getMyPosts(KeysetCursor cursor, int size) {
+        User user = currentUser.currentReference();
+        List<PostDto.Summary> rows = cursor == null
+                ? postRepo.findSummariesByAuthor(user, Limit.of(size + 1))
+                : postRepo.findSummariesByAuthorAfter(user, cursor.createdAt(), cursor.id(), Limit.of(size + 1));
+        return toSlice(rows, size);
     }
 
-    public Page<PostDto.Response> getPostsByMarket(String market, Pageable pageable) {
-        Page<Post> posts = postRepo.findByMarket(market, pageable);
-        return posts.map(this::convertToPostDtoResponse);
+    // 관련도순 검색, 다음 페이지 여부만 알 수 있도록 size + 1 개를 읽고 COUNT 는 하지 않는다
+    public Slice<PostDto.SearchHit> search(String query, String market, int page, int size) {
+        List<PostDto.SearchHit> hits = postRepo.search(query, market, page * size, size + 1);
+        boolean hasNext = hits.size() > size;
+        return new SliceImpl<>(hasNext ? hits.subList(0, size) : hits, PageRequest.of(page, size), hasNext);
     }
 
-    public Page<PostDto.Response> getMyPosts(Pageable pageable) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepo.findByUsername(username)
-                .orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다.: " + username));
-        return postRepo.findByAuthor(user, pageable).map(this::convertToPostDtoResponse);
+    // size + 1 개 조회 결과로 다음 페이지 여부를 판단
+    private static CursorSlice<PostDto.Summary> toSlice(List<PostDto.Summary> rows, int size) {
+        return CursorSlice.of(rows, size, p -> new KeysetCursor(p.getCreatedAt(), p.getId()), p -> p);
     }
 
     private PostDto.Response convertToPostDtoResponse(Post post) {
@@ -0,0 +1,139 @@
+package month.communitybackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import month.communitybackend.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 카운터.
+ * 조회마다 DB 에 쓰지 않고 게시글별 LongAdder 에 모았다가 flush 에서 배치 UPDATE 한 번으로 더한다.
+ * flush 는 카운터 맵을 통째로 새 맵으로 바꾸고, 한 주기 전에 바꿔 둔 맵을 읽는다.
+ * 교체 직전에 맵을 읽은 record 의 증가가 끝난 뒤에 읽게 되어 맵에서 항목을 지우다 조회를 잃는 일이 없다.
+ * dedupe-window 가 0 보다 크면 같은 사용자(비로그인은 IP)의 같은 글 조회를 그 시간 동안 한 번만 센다.
+ * flush 전에 프로세스가 죽으면 그 사이 조회수는 유실될 수 있다(근사치).
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+    private final PostRepository postRepo;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    // record 가 증가분을 쌓는 맵
+    private volatile ConcurrentMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 직전 flush 에서 교체된 맵, 다음 flush 에서 DB 에 반영 (flush 는 synchronized 라 이 필드는 flush 안에서만 바뀐다)
+    private volatile ConcurrentMap<Long, LongAdder> retired = new ConcurrentHashMap<>();
+    // "게시글id:조회자" 키, 없으면 중복 제거 안 함
+    private final Cache<String, Boolean> recentViewers;
+
+    private final Counter recorded;
+    private final Counter deduplicated;
+    private final Counter flushed;
+    private final Timer flushTimer;
+    private volatile long lastFlushNanos = System.nanoTime();
+
+    public PostViewCounter(
+            PostRepository postRepo,
+            PlatformTransactionManager txManager,
+            MeterRegistry registry,
+            @Value("${post.views.batch-size:500}") int batchSize,
+            @Value("${post.views.dedupe-window-ms:600000}") long dedupeWindowMs,
+            @Value("${post.views.dedupe-max-entries:1000000}") long dedupeMaxEntries
+    ) {
+        this.postRepo = postRepo;
+        this.tx = new TransactionTemplate(txManager);
+        this.batchSize = batchSize;
+        this.recentViewers = dedupeWindowMs <= 0 ? null : Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(dedupeWindowMs))
+                .maximumSize(dedupeMaxEntries)
+                .build();
+        this.recorded = Counter.builder("post.views.recorded").register(registry);
+        this.deduplicated = Counter.builder("post.views.deduplicated").register(registry);
+        // 처리량: DB 에 반영된 조회수 합계
+        this.flushed = Counter.builder("post.views.flushed").register(registry);
+        this.flushTimer = Timer.builder("post.views.flush").register(registry);
+        Gauge.builder("post.views.pending", this, c -> sum(c.pending) + sum(c.retired))
+                .register(registry);
+        // 지연: 마지막으로 성공한 flush 이후 경과 시간
+        Gauge.builder("post.views.flush.lag", this, c -> (System.nanoTime() - c.lastFlushNanos) / 1e9)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    // 조회 한 번을 기록, 중복 제거 창 안의 재조회면 false
+    public boolean record(Long postId, String viewer) {
+        if (recentViewers != null && viewer != null
+                && recentViewers.asMap().putIfAbsent(postId + ":" + viewer, Boolean.TRUE) != null) {
+            deduplicated.increment();
+            return false;
+        }
+        pending.computeIfAbsent(postId, k -> new LongAdder()).increment();
+        recorded.increment();
+        return true;
+    }
+
+    // 주기 flush, 한 주기 전에 교체된 맵을 반영하고 현재 맵을 교체해 둔다
+    public synchronized void flush() {
+        ConcurrentMap<Long, LongAdder> drained = retired;
+        retired = pending;
+        pending = new ConcurrentHashMap<>();
+        write(drained);
+    }
+
+    // 종료 시 남은 증가분을 모두 반영
+    public synchronized void flushAll() {
+        ConcurrentMap<Long, LongAdder> drained = retired;
+        ConcurrentMap<Long, LongAdder> current = pending;
+        retired = new ConcurrentHashMap<>();
+        pending = new ConcurrentHashMap<>();
+        current.forEach((id, n) -> drained.computeIfAbsent(id, k -> new LongAdder()).add(n.sum()));
+        write(drained);
+    }
+
+    // 한 트랜잭션으로 반영해 전부 성공하거나 전부 되돌린다, 실패하면 증가분을 다음 flush 로 넘긴다
+    private void write(Map<Long, LongAdder> drained) {
+        Map<Long, Long> deltas = new HashMap<>();
+        drained.forEach((id, adder) -> {
+            long n = adder.sum();
+            if (n > 0) {
+                deltas.put(id, n);
+            }
+        });
+        if (deltas.isEmpty()) {
+            lastFlushNanos = System.nanoTime();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            tx.executeWithoutResult(s -> postRepo.addViewCounts(deltas, batchSize));
+        } catch (RuntimeException ex) {
+            ConcurrentMap<Long, LongAdder> target = pending;
+            deltas.forEach((id, n) -> target.computeIfAbsent(id, k -> new LongAdder()).add(n));
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: posts={}, cause={}", deltas.size(), ex.toString());
+            return;
+        }
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        flushed.increment(deltas.values().stream().mapToLong(Long::longValue).sum());
+        lastFlushNanos = System.nanoTime();
+    }
+
+    private static long sum(Map<Long, LongAdder> counters) {
+        return counters.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
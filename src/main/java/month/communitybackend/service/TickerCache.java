@@ -0,0 +1,157 @@
+package month.communitybackend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import month.communitybackend.domain.Markets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 마켓별 최신 시세를 짧은 TTL 동안 보관하는 공유 캐시.
+ * 요청의 마켓 목록을 마켓 단위로 나눠 조회하고, 만료된 마켓만 모아 업비트에 한 번 요청한다.
+ * 같은 마켓을 동시에 조회하면 먼저 시작된 업비트 요청 하나의 결과를 함께 기다린다(single-flight).
+ * 지원하지 않는 마켓은 업비트 요청에 섞이지 않도록 거르고(하나가 묶음 요청 전체를 실패시킨다),
+ * 업비트가 돌려주지 않은 마켓은 negative-ttl 동안 "없음"으로 캐시해 반복 요청을 막는다.
+ */
+@Component
+public class TickerCache {
+    private static final String MARKET_FIELD = "market";
+
+    private final UpbitClient upbitClient;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 업비트 요청이 진행 중인 마켓
+    private final ConcurrentMap<String, CompletableFuture<Map<String, Object>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter upstreamCalls;
+
+    public TickerCache(
+            UpbitClient upbitClient,
+            MeterRegistry registry,
+            @Value("${ticker.cache.ttl-ms:1000}") long ttlMs,
+            @Value("${ticker.cache.negative-ttl-ms:30000}") long negativeTtlMs
+    ) {
+        this.upbitClient = upbitClient;
+        this.ttlNanos = ttlMs * 1_000_000L;
+        this.negativeTtlNanos = negativeTtlMs * 1_000_000L;
+        this.hits = Counter.builder("ticker.cache.requests").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("ticker.cache.requests").tag("result", "miss").register(registry);
+        this.upstreamCalls = Counter.builder("ticker.cache.upstream.calls").register(registry);
+    }
+
+    // 요청한 순서대로 시세를 반환, 중복 마켓은 한 번만 포함하고 지원하지 않거나 없는 마켓은 빠진다
+    public List<Map<String, Object>> get(Collection<String> markets) {
+        long now = System.nanoTime();
+        Map<String, Map<String, Object>> found = new HashMap<>();
+        Map<String, CompletableFuture<Map<String, Object>>> waiting = new HashMap<>();
+        Map<String, CompletableFuture<Map<String, Object>>> owned = new HashMap<>();
+
+        LinkedHashSet<String> unique = new LinkedHashSet<>();
+        for (String market : markets) {
+            if (Markets.isSupported(market)) {
+                unique.add(market);
+            }
+        }
+        for (String market : unique) {
+            Entry e = entries.get(market);
+            if (e != null && now - e.fetchedAt() < (e.ticker() == null ? negativeTtlNanos : ttlNanos)) {
+                hits.increment();
+                if (e.ticker() != null) {
+                    found.put(market, e.ticker());
+                }
+                continue;
+            }
+            misses.increment();
+            CompletableFuture<Map<String, Object>> mine = new CompletableFuture<>();
+            CompletableFuture<Map<String, Object>> existing = inFlight.putIfAbsent(market, mine);
+            if (existing == null) {
+                owned.put(market, mine);
+            }
+            waiting.put(market, existing == null ? mine : existing);
+        }
+
+        if (!owned.isEmpty()) {
+            fetch(owned);
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>(unique.size());
+        for (String market : unique) {
+            Map<String, Object> ticker = found.get(market);
+            CompletableFuture<Map<String, Object>> pending = waiting.get(market);
+            if (ticker == null && pending != null) {
+                ticker = join(pending);
+            }
+            if (ticker != null) {
+                result.add(ticker);
+            }
+        }
+        return result;
+    }
+
+    // 다른 경로(스트림 폴링)로 받은 시세도 캐시에 반영
+    public void putAll(List<Map<String, Object>> tickers) {
+        long now = System.nanoTime();
+        for (Map<String, Object> ticker : tickers) {
+            Object market = ticker.get(MARKET_FIELD);
+            if (market != null) {
+                entries.put(market.toString(), new Entry(ticker, now));
+            }
+        }
+    }
+
+    // 이 호출이 맡은 마켓들을 업비트 요청 한 번으로 가져와 대기 중인 호출들에 전달
+    private void fetch(Map<String, CompletableFuture<Map<String, Object>>> owned) {
+        try {
+            upstreamCalls.increment();
+            List<Map<String, Object>> tickers = upbitClient.getTickers(String.join(",", owned.keySet()));
+            putAll(tickers);
+            Map<String, Map<String, Object>> byMarket = new HashMap<>();
+            for (Map<String, Object> t : tickers) {
+                byMarket.put(String.valueOf(t.get(MARKET_FIELD)), t);
+            }
+            long now = System.nanoTime();
+            owned.forEach((market, f) -> {
+                Map<String, Object> ticker = byMarket.get(market);
+                if (ticker == null) {
+                    // 업비트에 없는 마켓, 잠시 "없음"으로 캐시
+                    entries.put(market, new Entry(null, now));
+                }
+                f.complete(ticker);
+            });
+        } catch (RuntimeException e) {
+            owned.values().forEach(f -> f.completeExceptionally(e));
+        } finally {
+            owned.forEach(inFlight::remove);
+        }
+    }
+
+    private static Map<String, Object> join(CompletableFuture<Map<String, Object>> f) {
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            // 업비트 오류는 호출한 쪽에 원래 예외 그대로 전달
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    // ticker 가 null 이면 업비트에 없는 마켓
+    private record Entry(Map<String, Object> ticker, long fetchedAt) {
+    }
+}
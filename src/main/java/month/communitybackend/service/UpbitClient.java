@@ -0,0 +1,66 @@
+package month.communitybackend.service;
+
+import month.communitybackend.dto.CandleDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업비트 Open API 호출 전용 클라이언트.
+ * 연결/응답 타임아웃이 걸린 RestTemplate 하나를 공유하며, base-url 을 바꿔 로컬 스텁으로 돌릴 수 있다.
+ */
+@Component
+public class UpbitClient {
+    // 분봉, 마켓, 개수 파라미터
+    private static final String CANDLES_API = "/v1/candles/minutes/{unit}?market={market}&count={count}";
+    // to 시각(제외) 이전의 봉을 조회
+    private static final String CANDLES_API_TO = CANDLES_API + "&to={to}";
+    // 쉼표로 구분된 마켓 코드의 현재 시세
+    private static final String TICKER_API = "/v1/ticker?markets={markets}";
+    private static final ParameterizedTypeReference<List<Map<String, Object>>> TICKER_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate rt;
+
+    public UpbitClient(
+            RestTemplateBuilder builder,
+            @Value("${upbit.base-url:https://api.upbit.com}") String baseUrl,
+            @Value("${upbit.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${upbit.read-timeout-ms:5000}") long readTimeoutMs
+    ) {
+        this.rt = builder
+                .rootUri(baseUrl)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+    // to 가 null 이면 최신 count개, 아니면 to 이전의 count개 봉 (최신순)
+    public CandleDto[] getMinuteCandles(String market, int unit, int count, Instant to) {
+        CandleDto[] body = to == null
+                ? rt.getForObject(CANDLES_API, CandleDto[].class, unit, market, count)
+                : rt.getForObject(CANDLES_API_TO, CandleDto[].class, unit, market, count,
+                        DateTimeFormatter.ISO_INSTANT.format(to.truncatedTo(ChronoUnit.SECONDS)));
+        return body == null ? new CandleDto[0] : body;
+    }
+
+    // 업비트 현재가 응답을 그대로 반환 (마켓별 필드 맵)
+    public List<Map<String, Object>> getTickers(String marketsCsv) {
+        List<Map<String, Object>> body = rt.exchange(TICKER_API, HttpMethod.GET, null, TICKER_LIST, marketsCsv)
+                .getBody();
+        return body == null ? List.of() : body;
+    }
+}
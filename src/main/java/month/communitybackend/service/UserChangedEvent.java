@@ -0,0 +1,5 @@
+package month.communitybackend.service;
+
+// 사용자 정보/권한 변경이나 탈퇴, 커밋 후 CurrentUserService 의 스냅샷을 무효화한다
+public record UserChangedEvent(String username) {
+}
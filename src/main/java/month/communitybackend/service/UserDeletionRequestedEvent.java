@@ -0,0 +1,5 @@
+package month.communitybackend.service;
+
+// 글/댓글이 많은 사용자의 탈퇴 요청, 커밋 후 AuthorDetachJob 이 비동기로 처리한다
+public record UserDeletionRequestedEvent(Long userId) {
+}
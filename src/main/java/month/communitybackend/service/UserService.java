@@ -2,19 +2,16 @@ package month.communitybackend.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import month.communitybackend.domain.Comment;
-import month.communitybackend.domain.Post;
 import month.communitybackend.domain.User;
 import month.communitybackend.dto.UserDto;
 import month.communitybackend.repository.*;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -26,26 +23,40 @@ public class UserService {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher events;
+    private final AuthorDetachJob authorDetachJob;
+    private final TransactionTemplate tx;
+
+    // 이 개수 이하의 글/댓글을 가진 사용자는 요청 안에서 바로 탈퇴 처리
+    @Value("${user.deletion.sync-limit:1000}")
+    private long syncLimit;
 
 
-    @Transactional
     // 사용자 정보 수정
     public User updateUser(UserDto.Update updateDto) {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다.:" + username));
+        // 비밀번호 인코딩(BCrypt)은 트랜잭션 밖에서
+        String encoded = updateDto.getPassword() != null && !updateDto.getPassword().isEmpty()
+                ? passwordEncoder.encode(updateDto.getPassword())
+                : null;
 
-        // 비밀번호 업데이트
-        if (updateDto.getPassword() != null && !updateDto.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(updateDto.getPassword()));
-        }
+        return tx.execute(s -> {
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다.:" + username));
 
-        // 이메일 업데이트
-        if (updateDto.getEmail() != null && !updateDto.getEmail().isEmpty()) {
-            user.setEmail(updateDto.getEmail());
-        }
+            // 비밀번호 업데이트
+            if (encoded != null) {
+                user.setPassword(encoded);
+            }
 
-        return userRepository.save(user);
+            // 이메일 업데이트
+            if (updateDto.getEmail() != null && !updateDto.getEmail().isEmpty()) {
+                user.setEmail(updateDto.getEmail());
+            }
+
+            events.publishEvent(new UserChangedEvent(username));
+            return userRepository.save(user);
+        });
     }
     // 사용자 탈퇴
     @Transactional
@@ -60,19 +71,17 @@ public class UserService {
         // 사용자와 연관된 비밀번호 재설정 토큰 삭제
         passwordResetTokenRepository.findByUser(user).ifPresent(passwordResetTokenRepository::delete);
 
-        // 사용자가 작성한 게시글의 author를 null로 설정
-        Page<Post> posts = postRepository.findByAuthor(user, Pageable.unpaged());
-        posts.forEach(post -> {
-            post.setAuthor(null);
-            postRepository.save(post);
-        });
+        events.publishEvent(new UserChangedEvent(username));
 
-        // 사용자가 작성한 댓글의 author를 null로 설정
-        List<Comment> comments = commentRepository.findByAuthor(user);
-        comments.forEach(comment -> {
-            comment.setAuthor(null);
-            commentRepository.save(comment);
-        });
+        // 글/댓글이 적으면 같은 트랜잭션에서 집합 단위 UPDATE 로 작성자를 끊고 바로 삭제
+        long owned = postRepository.countByAuthorId(user.getId()) + commentRepository.countByAuthorId(user.getId());
+        if (owned > syncLimit) {
+            // 많으면 로그인을 막아 두고 커밋 후 청크 단위 비동기 작업에서 처리, 사용자 행은 작업이 끝난 뒤 삭제
+            user.setDeleted(true);
+            events.publishEvent(new UserDeletionRequestedEvent(user.getId()));
+            return;
+        }
+        authorDetachJob.detachAll(user.getId());
 
         userRepository.delete(user);
     }
@@ -0,0 +1,49 @@
+package month.communitybackend.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandleSeriesTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void largeDailyVolumeSurvivesRoundTripAndSerialization() throws Exception {
+        // 저가 코인 일봉 합계 규모, 10^8 배 하면 long 범위를 넘는다
+        BigDecimal volume = new BigDecimal("1234567890123.12345678");
+        CandleSeries series = CandleSeries.builder("KRW-DOGE", 1)
+                .add(1_700_000_000_000L, CandleSeries.toScaled(new BigDecimal("250.5")),
+                        CandleSeries.toScaled(new BigDecimal("260")), CandleSeries.toScaled(new BigDecimal("240.25")),
+                        CandleSeries.toScaled(new BigDecimal("255")), CandleSeries.toScaledVolume(volume))
+                .build();
+
+        assertThat(series.toDtos().get(0).getVolume()).isEqualByComparingTo("1234567890123.1235");
+
+        JsonNode row = mapper.readTree(mapper.writeValueAsString(series)).get(0);
+        assertThat(row.get("candle_acc_trade_volume").decimalValue()).isEqualByComparingTo("1234567890123.1235");
+        assertThat(row.get("low_price").decimalValue()).isEqualByComparingTo("240.25");
+    }
+
+    @Test
+    void volumeBeyondLongRangeSaturatesInsteadOfThrowing() {
+        assertThat(CandleSeries.toScaledVolume(new BigDecimal("1e30"))).isEqualTo(Long.MAX_VALUE);
+        assertThat(CandleSeries.toScaledVolume(new BigDecimal("-1e30"))).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void formatsScaledValuesWithoutTrailingZeros() {
+        char[] buf = new char[32];
+
+        assertThat(new String(buf, 0, CandleSeriesSerializer.formatScaled(150_000_000L, CandleSeries.SCALE, buf)))
+                .isEqualTo("1.5");
+        assertThat(new String(buf, 0, CandleSeriesSerializer.formatScaled(-5L, CandleSeries.VOLUME_SCALE, buf)))
+                .isEqualTo("-0.0005");
+        assertThat(new String(buf, 0, CandleSeriesSerializer.formatScaled(Long.MIN_VALUE, CandleSeries.VOLUME_SCALE, buf)))
+                .isEqualTo("-922337203685477.5808");
+    }
+}
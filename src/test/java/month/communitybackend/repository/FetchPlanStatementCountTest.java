@@ -0,0 +1,142 @@
+package month.communitybackend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import month.communitybackend.domain.Comment;
+import month.communitybackend.domain.Post;
+import month.communitybackend.domain.User;
+import month.communitybackend.dto.CommentDto;
+import month.communitybackend.dto.CursorSlice;
+import month.communitybackend.dto.PostDto;
+import month.communitybackend.service.CommentService;
+import month.communitybackend.service.CurrentUserService;
+import month.communitybackend.service.PostService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 조회 경로마다 실행되는 SQL 수를 고정해 N+1 회귀를 잡는다 (Hibernate statistics 의 prepared statement 수)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PostService.class, CommentService.class, CurrentUserService.class})
+class FetchPlanStatementCountTest {
+    private static final int AUTHORS = 5;
+    private static final String MARKET = "KRW-BTC";
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CurrentUserService currentUser;
+
+    private Statistics stats;
+    private final List<User> users = new ArrayList<>();
+    private Post hotPost;
+    private Comment someComment;
+
+    @BeforeEach
+    void setUp() {
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < AUTHORS; i++) {
+            User u = User.builder().username("user" + i).password("pw").build();
+            em.persist(u);
+            users.add(u);
+            // 테스트마다 롤백되어 id 가 바뀌므로 이전 테스트의 스냅샷을 비운다
+            currentUser.evict(u.getUsername());
+        }
+        // 작성자가 모두 다른 게시글/댓글이라 작성자를 지연 로딩하면 행마다 쿼리가 늘어난다
+        for (int i = 0; i < AUTHORS; i++) {
+            Post p = Post.builder().author(users.get(i)).title("title" + i).content("content " + i).market(MARKET).build();
+            em.persist(p);
+            hotPost = p;
+        }
+        for (int i = 0; i < AUTHORS; i++) {
+            Comment c = Comment.builder().post(hotPost).author(users.get(i)).content("comment " + i).build();
+            em.persist(c);
+            someComment = c;
+        }
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(users.get(0).getUsername(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void postListUsesOneStatement() {
+        assertEquals(1, statements(() -> postService.list(null, 10)));
+    }
+
+    @Test
+    void postListByMarketUsesOneStatement() {
+        assertEquals(1, statements(() -> postService.getPostsByMarket(MARKET, null, 10)));
+    }
+
+    @Test
+    void myPostsUsesUserLookupAndOneListStatement() {
+        assertEquals(2, statements(() -> postService.getMyPosts(null, 10)));
+    }
+
+    @Test
+    void myPostsReusesCachedUserSnapshot() {
+        postService.getMyPosts(null, 10);
+        assertEquals(1, statements(() -> postService.getMyPosts(null, 10)));
+    }
+
+    @Test
+    void postDetailLoadsAuthorWithPost() {
+        assertEquals(1, statements(() -> {
+            PostDto.Response r = postService.get(hotPost.getId());
+            assertEquals(users.get(AUTHORS - 1).getUsername(), r.getAuthorUsername());
+        }));
+    }
+
+    @Test
+    void commentPageUsesOneStatement() {
+        assertEquals(1, statements(() -> {
+            CursorSlice<CommentDto.Response> page = commentService.listByPost(hotPost.getId(), null, AUTHORS - 1);
+            assertEquals(AUTHORS - 1, page.getContent().size());
+            assertTrue(page.isHasNext());
+        }));
+    }
+
+    @Test
+    void commentExportUsesOneStatementPerChunk() {
+        List<CommentDto.Response> exported = new ArrayList<>();
+        assertEquals(1, statements(() -> commentService.exportByPost(hotPost.getId(), exported::addAll)));
+        assertEquals(AUTHORS, exported.size());
+    }
+
+    @Test
+    void commentDetailLoadsAuthorWithComment() {
+        assertEquals(1, statements(() -> CommentDto.Response.from(commentService.get(someComment.getId()))));
+    }
+
+    // 영속성 컨텍스트를 비운 상태에서 action 이 실행한 SQL 수
+    private long statements(Runnable action) {
+        em.flush();
+        em.clear();
+        stats.clear();
+        action.run();
+        return stats.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,55 @@
+package month.communitybackend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "pWJMjp3tEE3RNgZFiiuoQ33DSADWEQ";
+
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 1_209_600_000L);
+    private final Key key = Keys.hmacShaKeyFor(Base64.getEncoder().encode(SECRET.getBytes()));
+    private final String token = tokenProvider.createToken("testuser", List.of("ROLE_USER", "ROLE_ADMIN"));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void parseMatchesSeparateCalls() {
+        JwtPrincipal principal = tokenProvider.parse(token).orElseThrow();
+
+        // 변경 전 JwtAuthenticationFilter 가 validateToken, getUsername, getRoles 로 각각 꺼내던 값과 같아야 한다
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        assertThat(principal.username()).isEqualTo(claims.getSubject());
+        assertThat(principal.roles()).isEqualTo((List<String>) claims.get("roles"));
+        assertThat(principal.expiresAt()).isEqualTo(claims.getExpiration().toInstant());
+    }
+
+    @Test
+    void parseRejectsTamperedToken() {
+        String[] parts = token.split("\\.");
+        String otherPayload = tokenProvider.createToken("admin", List.of("ROLE_ADMIN")).split("\\.")[1];
+
+        assertThat(tokenProvider.parse(token + "x")).isEmpty();
+        assertThat(tokenProvider.parse(parts[0] + "." + otherPayload + "." + parts[2])).isEmpty();
+        assertThat(tokenProvider.parse("")).isEmpty();
+    }
+
+    @Test
+    void parseRejectsRefreshToken() {
+        assertThat(tokenProvider.parse(tokenProvider.createRefreshToken("testuser"))).isEmpty();
+    }
+
+    @Test
+    void parseRejectsExpiredToken() {
+        JwtTokenProvider expired = new JwtTokenProvider(SECRET, -1_000L, 1_209_600_000L);
+
+        assertThat(tokenProvider.parse(expired.createToken("testuser", List.of("ROLE_USER")))).isEmpty();
+    }
+}
@@ -0,0 +1,143 @@
+package month.communitybackend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+    private static final long WINDOW_MS = 60_000;
+    private static final int USERNAME_LIMIT = 3;
+    private static final int IP_LIMIT = 5;
+
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LoginRateLimiter limiter =
+            new LoginRateLimiter(registry, clock, WINDOW_MS, USERNAME_LIMIT, IP_LIMIT, 1_000);
+
+    @Test
+    void rejectsUsernameOverLimit() {
+        for (int i = 0; i < USERNAME_LIMIT; i++) {
+            limiter.check("victim", "10.0.0." + i);
+        }
+
+        assertThatThrownBy(() -> limiter.check("Victim", "10.0.0.99"))
+                .isInstanceOf(LoginRateLimitedException.class)
+                .satisfies(e -> assertThat(((LoginRateLimitedException) e).getRetryAfterSeconds()).isPositive());
+        assertThat(rejected("username")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsIpOverLimitAcrossUsernames() {
+        for (int i = 0; i < IP_LIMIT; i++) {
+            limiter.check("user" + i, "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> limiter.check("another", "10.0.0.1"))
+                .isInstanceOf(LoginRateLimitedException.class);
+        assertThat(rejected("ip")).isEqualTo(1);
+        // 다른 IP 는 영향을 받지 않는다
+        limiter.check("another", "10.0.0.2");
+    }
+
+    @Test
+    void previousWindowDecaysAsTimePasses() {
+        for (int i = 0; i < USERNAME_LIMIT; i++) {
+            limiter.check("victim", "10.0.0.1");
+        }
+        // 다음 윈도우 시작 직후에는 직전 윈도우 횟수가 거의 그대로 반영된다
+        clock.advance(WINDOW_MS);
+        assertThatThrownBy(() -> limiter.check("victim", "10.0.0.1"))
+                .isInstanceOf(LoginRateLimitedException.class);
+
+        // 윈도우의 절반이 지나면 직전 윈도우 3회가 1.5회로 줄어 한 번 더 허용된다
+        clock.advance(WINDOW_MS / 2);
+        limiter.check("victim", "10.0.0.1");
+        assertThatThrownBy(() -> limiter.check("victim", "10.0.0.1"))
+                .isInstanceOf(LoginRateLimitedException.class);
+
+        // 두 윈도우 이상 지나면 모두 비워진다
+        clock.advance(2 * WINDOW_MS);
+        for (int i = 0; i < USERNAME_LIMIT; i++) {
+            limiter.check("victim", "10.0.0.1");
+        }
+    }
+
+    @Test
+    void retryAfterPointsAtWhenSlidingEstimateAllowsAgain() {
+        for (int i = 0; i < USERNAME_LIMIT; i++) {
+            limiter.check("victim", "10.0.0." + i);
+        }
+        // 현재 윈도우 3회로 한도, 다음 윈도우에서 3회가 2회로 줄어드는 1/3 지점까지 기다려야 한다
+        assertThat(retryAfter("victim", "10.0.1.1")).isEqualTo((WINDOW_MS + WINDOW_MS / 3) / 1000);
+
+        // 다음 윈도우 시작 시점: 직전 3회가 남아 있어 같은 1/3 지점까지
+        clock.advance(WINDOW_MS);
+        long seconds = retryAfter("victim", "10.0.1.2");
+        assertThat(seconds).isEqualTo(WINDOW_MS / 3 / 1000);
+
+        // 알려준 시간 직전에는 아직 거절, 그 시간에 다시 시도하면 허용된다
+        clock.advance(seconds * 1000 - 1);
+        retryAfter("victim", "10.0.1.3");
+        clock.advance(1);
+        limiter.check("victim", "10.0.1.4");
+    }
+
+    @Test
+    void successResetsUsernameCounter() {
+        for (int i = 0; i < USERNAME_LIMIT; i++) {
+            limiter.check("user", "10.0.0.1");
+        }
+        limiter.onSuccess("user");
+
+        limiter.check("user", "10.0.0.1");
+    }
+
+    private long retryAfter(String username, String ip) {
+        try {
+            limiter.check(username, ip);
+        } catch (LoginRateLimitedException e) {
+            return e.getRetryAfterSeconds();
+        }
+        throw new AssertionError("거절되어야 하는 시도가 허용됨");
+    }
+
+    private double rejected(String key) {
+        return registry.get("auth.login.rejected").tag("key", key).counter().count();
+    }
+
+    // 테스트에서 시간을 직접 움직이는 시계
+    private static final class MutableClock extends Clock {
+        private long millis = 1_700_000_000_000L - 1_700_000_000_000L % WINDOW_MS;
+
+        void advance(long ms) {
+            millis += ms;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package month.communitybackend.service;
+
+import com.sun.net.httpserver.HttpServer;
+import month.communitybackend.domain.CandleBackfillCheckpoint;
+import month.communitybackend.dto.CandleBackfillDto;
+import month.communitybackend.dto.CandleSeries;
+import month.communitybackend.repository.CandleBackfillCheckpointRepository;
+import month.communitybackend.repository.CandleRepository;
+import month.communitybackend.repository.CandleRepositoryCustom.UpsertResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 업비트 캔들 API 를 로컬 스텁 서버로 대신해 백필 작업을 오프라인으로 검증
+class CandleBackfillServiceTest {
+    private static final String MARKET = "KRW-BTC";
+    private static final long MINUTE = 60_000L;
+
+    private HttpServer upbitStub;
+    private long now;
+    private long listedAt;                 // 스텁이 가진 가장 오래된 1분봉 시각
+    private final List<Instant> requestedTo = new CopyOnWriteArrayList<>();
+    private final AtomicInteger served = new AtomicInteger();
+    private final AtomicInteger upserted = new AtomicInteger();
+
+    private CandleRepository candleRepo;
+    private CandleBackfillCheckpointRepository checkpointRepo;
+    private CandleBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        now = System.currentTimeMillis() / MINUTE * MINUTE;
+        upbitStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        upbitStub.createContext("/v1/candles/minutes/1", exchange -> {
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            Instant to = query.containsKey("to") ? Instant.parse(query.get("to")) : Instant.ofEpochMilli(now + MINUTE);
+            requestedTo.add(to);
+            byte[] body = candlesBefore(to.toEpochMilli(), Integer.parseInt(query.get("count")))
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upbitStub.start();
+
+        candleRepo = mock(CandleRepository.class);
+        when(candleRepo.findFirstByIdMarketOrderByIdOpenTimeAsc(MARKET)).thenReturn(Optional.empty());
+        when(candleRepo.upsertAll(any())).thenAnswer(inv -> {
+            Collection<CandleSeries> series = inv.getArgument(0);
+            int n = series.stream().mapToInt(CandleSeries::size).sum();
+            upserted.addAndGet(n);
+            return new UpsertResult(n, 0);
+        });
+        checkpointRepo = mock(CandleBackfillCheckpointRepository.class);
+        when(checkpointRepo.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        UpbitClient upbitClient = new UpbitClient(new RestTemplateBuilder(),
+                "http://127.0.0.1:" + upbitStub.getAddress().getPort(), 1000, 1000);
+        CandleService candleService = new CandleService(candleRepo, new CandleCache(10), upbitClient,
+                new CandleRollupService(candleRepo, 10));
+        backfillService = new CandleBackfillService(candleService, candleRepo, checkpointRepo, 30, 1000, 1500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        upbitStub.stop(0);
+    }
+
+    @Test
+    void walksBackUntilUpstreamHistoryIsExhausted() {
+        listedAt = now - 449 * MINUTE; // 450개 = 200 + 200 + 50
+        when(checkpointRepo.findById(MARKET)).thenReturn(Optional.empty());
+
+        CandleBackfillDto.Status status = backfillService.run(MARKET);
+
+        assertTrue(status.isCompleted());
+        assertEquals(3, requestedTo.size());
+        assertEquals(served.get(), upserted.get());
+        assertEquals(450, status.getCandlesWritten());
+        assertEquals(listedAt, status.getOldestOpenTime());
+    }
+
+    @Test
+    void resumesFromCheckpointAndStopsAtTarget() {
+        listedAt = now - 2000 * MINUTE;
+        long checkpoint = now - 500 * MINUTE;
+        long target = now - 800 * MINUTE;
+        when(checkpointRepo.findById(MARKET)).thenReturn(Optional.of(CandleBackfillCheckpoint.builder()
+                .market(MARKET)
+                .oldestOpenTime(checkpoint)
+                .targetOpenTime(target)
+                .candlesWritten(500)
+                .build()));
+
+        CandleBackfillDto.Status status = backfillService.run(MARKET);
+
+        assertEquals(Instant.ofEpochMilli(checkpoint), requestedTo.get(0));
+        assertTrue(status.isCompleted());
+        assertEquals(300, upserted.get()); // checkpoint 이전 ~ target 까지
+        assertEquals(800, status.getCandlesWritten());
+    }
+
+    // to(제외) 이전의 1분봉을 최신순으로 count개, timestamp 는 봉 안의 마지막 체결 시각처럼 30초 뒤로 준다
+    private String candlesBefore(long to, int count) {
+        StringBuilder json = new StringBuilder("[");
+        long t = Math.min((to - 1) / MINUTE * MINUTE, now);
+        for (int i = 0; i < count && t >= listedAt; i++, t -= MINUTE) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"market\":\"").append(MARKET).append("\",\"timestamp\":").append(t + 30_000)
+                    .append(",\"opening_price\":100.5,\"high_price\":101,\"low_price\":99.25")
+                    .append(",\"trade_price\":100,\"candle_acc_trade_volume\":0.12345678}");
+            served.incrementAndGet();
+        }
+        return json.append(']').toString();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+}